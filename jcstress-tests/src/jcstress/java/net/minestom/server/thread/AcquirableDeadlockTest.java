@@ -0,0 +1,74 @@
+package net.minestom.server.thread;
+
+import org.openjdk.jcstress.annotations.*;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.openjdk.jcstress.annotations.Expect.*;
+
+/**
+ * Three threads acquire pairs of tick threads in conflicting orders, a deadlock makes the test hang.
+ * <p>
+ * Each outer section checks that no other thread entered it while the nested acquisition was waiting.
+ */
+@JCStressTest
+@Outcome(id = "3, 0", expect = ACCEPTABLE)
+@Outcome(id = "2, 0", expect = ACCEPTABLE_INTERESTING, desc = "The out of order nested acquisition timed out")
+@Outcome(expect = FORBIDDEN, desc = "Lost update or interrupted outer section, the acquisitions are not exclusive")
+@State
+public class AcquirableDeadlockTest {
+    static {
+        System.setProperty("minestom.acquirable.nested-timeout", "10");
+    }
+
+    private final TickThread first = new TickThread(0);
+    private final TickThread second = new TickThread(1);
+    private final TickThread third = new TickThread(2);
+    // Last actor which entered the section of each thread
+    private final int[] owners = new int[3];
+    private int counter;
+    private int violations;
+
+    @Actor
+    public void actor1() {
+        acquire(1, first, 0, second, 1);
+    }
+
+    @Actor
+    public void actor2() {
+        acquire(2, second, 1, third, 2);
+    }
+
+    @Actor
+    public void actor3() {
+        // Out of order
+        acquire(3, third, 2, first, 0);
+    }
+
+    @Arbiter
+    public void arbiter(II_Result r) {
+        r.r1 = counter;
+        r.r2 = violations;
+    }
+
+    private void acquire(int actor, TickThread outer, int outerIndex, TickThread inner, int innerIndex) {
+        final Thread current = Thread.currentThread();
+        ReentrantLock outerLock = AcquirableImpl.enter(current, outer);
+        try {
+            owners[outerIndex] = actor;
+            ReentrantLock innerLock;
+            try {
+                innerLock = AcquirableImpl.enter(current, inner);
+            } catch (IllegalStateException e) {
+                return;
+            }
+            owners[innerIndex] = actor;
+            this.counter++;
+            AcquirableImpl.leave(innerLock);
+            if (owners[outerIndex] != actor) this.violations++;
+        } finally {
+            AcquirableImpl.leave(outerLock);
+        }
+    }
+}
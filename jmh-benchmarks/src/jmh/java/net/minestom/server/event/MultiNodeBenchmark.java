@@ -11,18 +11,34 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
 public class MultiNodeBenchmark {
+    private static final EventFilter<TestMappedEvent, Target> TARGET_FILTER =
+            EventFilter.from(TestMappedEvent.class, Target.class, TestMappedEvent::target);
 
     @Param({"0", "1", "3", "10"})
     public int children;
 
+    @Param({"0", "10", "1000"})
+    public int mappedNodes;
+
     private EventNode<Event> node;
 
+    // Strong references, mapped nodes are weakly held by their parent
+    private Target[] targets;
+    private EventNode<?>[] mapped;
+    private int targetIndex;
+
     record TestEvent() implements Event {
     }
 
     record TestEvent2() implements Event {
     }
 
+    record TestMappedEvent(Target target) implements Event {
+    }
+
+    static final class Target {
+    }
+
     @Setup
     public void setup() {
         node = EventNode.all("node");
@@ -40,10 +56,31 @@ public class MultiNodeBenchmark {
                 // Empty
             }).call(new TestEvent2());
         }
+
+        this.targets = new Target[Math.max(1, mappedNodes)];
+        this.mapped = new EventNode[mappedNodes];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = new Target();
+        }
+        for (int i = 0; i < mappedNodes; i++) {
+            var mappedNode = node.map(targets[i], TARGET_FILTER);
+            mappedNode.addListener(TestMappedEvent.class, e -> {
+                // Empty
+            });
+            mapped[i] = mappedNode;
+        }
     }
 
     @Benchmark
     public void call() {
         node.call(new TestEvent());
     }
+
+    @Benchmark
+    public void callMapped() {
+        final Target[] targets = this.targets;
+        final int index = targetIndex;
+        this.targetIndex = index + 1 == targets.length ? 0 : index + 1;
+        node.call(new TestMappedEvent(targets[index]));
+    }
 }
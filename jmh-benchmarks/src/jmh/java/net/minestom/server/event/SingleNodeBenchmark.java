@@ -18,9 +18,15 @@ public class SingleNodeBenchmark {
     private EventNode<Event> node;
     private ListenerHandle<TestEvent> handle;
 
+    private final Object target = new Object();
+    private EventNode<TestMappedEvent> mappedNode;
+
     record TestEvent() implements Event {
     }
 
+    record TestMappedEvent(Object target) implements Event {
+    }
+
     record TestEvent2() implements Event {
     }
 
@@ -40,6 +46,13 @@ public class SingleNodeBenchmark {
         node.call(new TestEvent2());
 
         this.handle = node.getHandle(TestEvent.class);
+
+        this.mappedNode = node.map(target, EventFilter.from(TestMappedEvent.class, Object.class, TestMappedEvent::target));
+        for (int i = 0; i < listenerCount; i++) {
+            mappedNode.addListener(TestMappedEvent.class, e -> {
+                // Empty
+            });
+        }
     }
 
     @Benchmark
@@ -51,4 +64,9 @@ public class SingleNodeBenchmark {
     public void handleCall() {
         handle.call(new TestEvent());
     }
+
+    @Benchmark
+    public void mappedCall() {
+        node.call(new TestMappedEvent(target));
+    }
 }
@@ -0,0 +1,87 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class AnvilLoaderBenchmark {
+    /**
+     * Chunks per region side, the synthetic world is made of {@code regions} regions of {@code REGION_CHUNKS * REGION_CHUNKS} chunks.
+     */
+    private static final int REGION_CHUNKS = 8;
+
+    @Param({"1", "4"})
+    public int regions;
+
+    private Path directory;
+    private InstanceContainer instance;
+    private List<Chunk> chunks;
+    private AnvilLoader loader;
+
+    @Setup
+    public void setup() throws IOException {
+        MinecraftServer.init();
+        this.directory = Files.createTempDirectory("minestom-anvil-benchmark");
+        this.instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.setGenerator(unit -> {
+            unit.modifier().fillHeight(-64, 0, Block.STONE);
+            unit.modifier().fillHeight(0, 4, Block.GRASS_BLOCK);
+        });
+        this.chunks = new ArrayList<>();
+        for (int region = 0; region < regions; region++) {
+            final int offsetX = region * 32;
+            for (int x = 0; x < REGION_CHUNKS; x++) {
+                for (int z = 0; z < REGION_CHUNKS; z++) {
+                    chunks.add(instance.loadChunk(offsetX + x, z).join());
+                }
+            }
+        }
+        // Loader populated once so that the load benchmark always has data to read
+        this.loader = new AnvilLoader(directory);
+        loader.saveChunks(chunks).join();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        chunks.forEach(loader::unloadChunk);
+        MinecraftServer.getInstanceManager().unregisterInstance(instance);
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveBatched() {
+        loader.saveChunks(chunks).join();
+    }
+
+    @Benchmark
+    public void saveSequential() {
+        for (Chunk chunk : chunks) {
+            loader.saveChunk(chunk).join();
+        }
+    }
+
+    @Benchmark
+    public void load(Blackhole blackhole) {
+        for (Chunk chunk : chunks) {
+            blackhole.consume(loader.loadChunk(instance, chunk.getChunkX(), chunk.getChunkZ()).join());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EntityTrackerBenchmark {
+
+    /**
+     * Grid cell size, 0 to only use the chunk buckets.
+     */
+    @Param({"0", "4"})
+    public int cellSize;
+
+    @Param({"100", "1000"})
+    public int entities;
+
+    /**
+     * Side length of the square area containing all the entities.
+     */
+    @Param({"16", "64"})
+    public int area;
+
+    EntityTracker tracker;
+    Entity[] crowd;
+    Vec center;
+    int tick;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.tracker = EntityTracker.newTracker(cellSize);
+        this.crowd = new Entity[entities];
+        var random = ThreadLocalRandom.current();
+        for (int i = 0; i < entities; i++) {
+            final Vec point = new Vec(random.nextDouble(area), 40, random.nextDouble(area));
+            final Entity entity = new Entity(EntityType.ZOMBIE);
+            tracker.register(entity, point, EntityTracker.Target.ENTITIES, null);
+            this.crowd[i] = entity;
+        }
+        this.center = new Vec(area / 2d, 40, area / 2d);
+    }
+
+    @Benchmark
+    public void nearby(Blackhole blackhole) {
+        tracker.nearbyEntities(center, 2, EntityTracker.Target.ENTITIES, blackhole::consume);
+    }
+
+    /**
+     * Moves one entity back and forth across a chunk border, as in a crowded mob farm.
+     */
+    @Benchmark
+    public void moveChurn() {
+        final int tick = this.tick++;
+        final Entity entity = crowd[tick % crowd.length];
+        final double x = ((tick / crowd.length) & 1) == 0 ? 15.5 : 16.5;
+        tracker.move(entity, new Vec(x, 40, 8), EntityTracker.Target.ENTITIES, null);
+    }
+
+    @Benchmark
+    public void nearbyWide(Blackhole blackhole) {
+        tracker.nearbyEntities(center, 8, EntityTracker.Target.ENTITIES, blackhole::consume);
+    }
+}
@@ -0,0 +1,67 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 3, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LightingBenchmark {
+    private static final int AREA = 16;
+
+    /**
+     * Instances relit concurrently, each containing {@code AREA * AREA} chunks.
+     */
+    @Param({"1", "4"})
+    public int instances;
+
+    private List<InstanceContainer> containers;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        this.containers = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+            instance.setChunkSupplier(LightingChunk::new);
+            instance.setGenerator(unit -> {
+                unit.modifier().fillHeight(-64, 0, Block.STONE);
+                unit.modifier().fillHeight(0, 4, Block.GRASS_BLOCK);
+                // Light sources and overhangs so that block light propagates across chunks
+                final int x = unit.absoluteStart().blockX();
+                final int z = unit.absoluteStart().blockZ();
+                unit.modifier().setBlock(x + 8, 4, z + 8, Block.GLOWSTONE);
+                unit.modifier().fill(unit.absoluteStart().withY(12), unit.absoluteStart().add(8, 0, 16).withY(13), Block.STONE);
+            });
+            for (int x = 0; x < AREA; x++) {
+                for (int z = 0; z < AREA; z++) {
+                    instance.loadChunk(x, z).join();
+                }
+            }
+            containers.add(instance);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        containers.forEach(MinecraftServer.getInstanceManager()::unregisterInstance);
+    }
+
+    @Benchmark
+    public void relight() {
+        if (instances == 1) {
+            final InstanceContainer instance = containers.get(0);
+            LightingChunk.relight(instance, instance.getChunks());
+            return;
+        }
+        containers.parallelStream().forEach(instance -> LightingChunk.relight(instance, instance.getChunks()));
+    }
+}
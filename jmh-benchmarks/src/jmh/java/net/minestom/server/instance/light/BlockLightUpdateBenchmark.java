@@ -0,0 +1,61 @@
+package net.minestom.server.instance.light;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Toggles a torch in a section already lit by other sources, comparing the incremental update to a full recompute.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BlockLightUpdateBenchmark {
+
+    @Param({"0", "8"})
+    public int sources;
+
+    Palette palette;
+    byte[] light;
+    boolean placed;
+
+    @Setup
+    public void setup() {
+        this.palette = Palette.blocks();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                palette.set(x, 0, z, Block.STONE.stateId());
+            }
+        }
+        var random = new Random(42);
+        for (int i = 0; i < sources; i++) {
+            palette.set(random.nextInt(16), 1 + random.nextInt(15), random.nextInt(16), Block.GLOWSTONE.stateId());
+        }
+        this.light = LightCompute.compute(palette).light().clone();
+    }
+
+    @Benchmark
+    public void incremental(Blackhole blackhole) {
+        toggle();
+        LightCompute.update(palette, light, 8, 4, 8);
+        blackhole.consume(light);
+    }
+
+    @Benchmark
+    public void fullRecompute(Blackhole blackhole) {
+        toggle();
+        blackhole.consume(LightCompute.compute(palette).light());
+    }
+
+    private void toggle() {
+        this.placed = !placed;
+        palette.set(8, 4, 8, (placed ? Block.TORCH : Block.AIR).stateId());
+    }
+}
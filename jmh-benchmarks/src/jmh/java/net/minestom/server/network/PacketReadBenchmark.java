@@ -0,0 +1,78 @@
+package net.minestom.server.network;
+
+import net.minestom.server.network.packet.client.common.ClientPluginMessagePacket;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class PacketReadBenchmark {
+    private static final int PACKET_COUNT = 32;
+    private static final ThreadLocal<Inflater> LOCAL_INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    @Param({"512", "8192"})
+    public int payloadSize;
+
+    private BinaryBuffer readBuffer;
+    private int writerOffset;
+
+    private ByteBuffer payload;
+    private ByteBuffer output;
+
+    @Setup
+    public void setup() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(PACKET_COUNT * (payloadSize + 64));
+        var packet = new ClientPluginMessagePacket("channel", new byte[payloadSize]);
+        for (int i = 0; i < PACKET_COUNT; i++) {
+            PacketUtils.writeFramedPacket(buffer, 0x0A, packet, 256);
+        }
+        this.readBuffer = BinaryBuffer.wrap(buffer);
+        this.writerOffset = buffer.position();
+
+        // Single compressed payload (without the 3 + 3 bytes header) for the inflater comparison
+        final ByteBuffer single = ByteBuffer.allocateDirect(payloadSize + 64);
+        PacketUtils.writeFramedPacket(single, 0x0A, packet, 256);
+        this.payload = single.slice(6, single.position() - 6);
+        this.output = ByteBuffer.allocateDirect(payloadSize + 64);
+    }
+
+    @Benchmark
+    public void readPackets(Blackhole blackhole) throws DataFormatException {
+        this.readBuffer.reset(0, writerOffset);
+        PacketUtils.readPackets(readBuffer, true, (id, payload) -> blackhole.consume(payload));
+    }
+
+    /**
+     * Previous behavior, one inflater allocated per compressed packet.
+     */
+    @Benchmark
+    public void inflateAllocating(Blackhole blackhole) throws DataFormatException {
+        for (int i = 0; i < PACKET_COUNT; i++) {
+            Inflater inflater = new Inflater();
+            inflater.setInput(payload.duplicate());
+            blackhole.consume(inflater.inflate(output.clear()));
+            inflater.reset();
+        }
+    }
+
+    @Benchmark
+    public void inflatePooled(Blackhole blackhole) throws DataFormatException {
+        Inflater inflater = LOCAL_INFLATER.get();
+        for (int i = 0; i < PACKET_COUNT; i++) {
+            inflater.setInput(payload.duplicate());
+            blackhole.consume(inflater.inflate(output.clear()));
+            inflater.reset();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.Tickable;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ThreadDispatcherBenchmark {
+    private static final int THREAD_COUNT = 4;
+    private static final int PARTITION_COUNT = 64;
+
+    @Param({"NEVER", "BALANCED"})
+    public ThreadProvider.RefreshType refreshType;
+
+    // Elements inside hot partitions, all hot partitions start on the same thread
+    @Param({"50", "200"})
+    public int hotElements;
+
+    private ThreadDispatcher<SkewedPartition> dispatcher;
+
+    record SkewedPartition(int id) {
+    }
+
+    @Setup
+    public void setup() {
+        final ThreadProvider.RefreshType refreshType = this.refreshType;
+        this.dispatcher = ThreadDispatcher.of(new ThreadProvider<>() {
+            @Override
+            public int findThread(@NotNull SkewedPartition partition) {
+                return partition.id();
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return refreshType;
+            }
+        }, THREAD_COUNT);
+        final Tickable element = (time) -> Blackhole.consumeCPU(100);
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            final SkewedPartition partition = new SkewedPartition(i);
+            dispatcher.createPartition(partition);
+            // One partition out of 8 is hot, ids multiple of the thread count land on the first thread
+            final int elementCount = i % (THREAD_COUNT * 2) == 0 ? hotElements : 5;
+            for (int j = 0; j < elementCount; j++) {
+                // Each element must be a distinct instance to be registered
+                dispatcher.updateElement((Tickable) element::tick, partition);
+            }
+        }
+        // Let the dispatcher process the partitions and measure them
+        for (int i = 0; i < 100; i++) tick();
+    }
+
+    @TearDown
+    public void teardown() {
+        this.dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public void tick() {
+        this.dispatcher.updateAndAwait(System.currentTimeMillis());
+        this.dispatcher.refreshThreads();
+    }
+}
@@ -12,22 +12,44 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class SchedulerTickBenchmark {
 
+    @Param({"SORTED", "TIMING_WHEEL"})
+    public Scheduler.Backend backend;
+
+    @Param({"1", "1000"})
+    public int schedulers;
+
     @Param({"0", "1", "5"})
     public int tickTasks;
 
-    Scheduler scheduler;
+    /**
+     * Tasks repeating with a delay longer than a wheel rotation.
+     */
+    @Param({"0", "5"})
+    public int delayedTasks;
+
+    Scheduler[] instances;
 
     @Setup
     public void setup() {
-        this.scheduler = Scheduler.newScheduler();
-        for (int i = 0; i < this.tickTasks; i++) {
-            this.scheduler.scheduleTask(() -> {
-            }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+        this.instances = new Scheduler[schedulers];
+        for (int i = 0; i < schedulers; i++) {
+            Scheduler scheduler = Scheduler.newScheduler(backend);
+            for (int j = 0; j < this.tickTasks; j++) {
+                scheduler.scheduleTask(() -> {
+                }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+            }
+            for (int j = 0; j < this.delayedTasks; j++) {
+                scheduler.scheduleTask(() -> {
+                }, TaskSchedule.tick(j + 1), TaskSchedule.tick(300 + j));
+            }
+            this.instances[i] = scheduler;
         }
     }
 
     @Benchmark
     public void call() {
-        this.scheduler.processTick();
+        for (Scheduler scheduler : instances) {
+            scheduler.processTick();
+        }
     }
 }
@@ -275,7 +275,8 @@ final class ServerProcessImpl implements ServerProcess {
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs, dispatcher().threadTimings(),
+                        Entity.resetViewerChanges());
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
             }
         }
@@ -292,6 +293,15 @@ final class ServerProcessImpl implements ServerProcess {
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(tickStart);
 
+            // Send the block changes of the tick
+            for (Instance instance : instance().getInstances()) {
+                try {
+                    instance.getBlockChangeQueue().flush();
+                } catch (Exception e) {
+                    exception().handleException(e);
+                }
+            }
+
             // Clear removed entities & update threads
             final long tickTime = System.currentTimeMillis() - tickStart;
             dispatcher().refreshThreads(tickTime);
@@ -19,6 +19,7 @@ import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventHandler;
 import net.minestom.server.event.EventNode;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.entity.*;
 import net.minestom.server.event.instance.AddEntityToInstanceEvent;
 import net.minestom.server.event.instance.RemoveEntityFromInstanceEvent;
@@ -30,6 +31,7 @@ import net.minestom.server.instance.InstanceManager;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.monitoring.TickMonitor;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.LazyPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
@@ -158,6 +160,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     private final TagHandler tagHandler = TagHandler.newHandler();
     private final Scheduler scheduler = Scheduler.newScheduler();
     private final EventNode<EntityEvent> eventNode;
+    // Avoids creating an event every tick when unused
+    private final ListenerHandle<EntityTickEvent> tickHandle;
 
     protected UUID uuid;
     private boolean isActive; // False if entity has only been instanced without being added somewhere
@@ -203,9 +207,11 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         final ServerProcess process = MinecraftServer.process();
         if (process != null) {
             this.eventNode = process.eventHandler().map(this, EventFilter.ENTITY);
+            this.tickHandle = process.eventHandler().getHandle(EntityTickEvent.class);
         } else {
             // Local nodes require a server process
             this.eventNode = null;
+            this.tickHandle = null;
         }
     }
 
@@ -256,6 +262,16 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         return LAST_ENTITY_ID.incrementAndGet();
     }
 
+    /**
+     * Gets the automatic viewer changes applied since the last call, and resets the counters.
+     *
+     * @return the viewer changes since the last call
+     */
+    @ApiStatus.Internal
+    public static @NotNull TickMonitor.ViewerChanges resetViewerChanges() {
+        return EntityView.resetChanges();
+    }
+
     /**
      * Called each tick.
      *
@@ -567,7 +583,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             update(time);
 
             ticks++;
-            EventDispatcher.call(new EntityTickEvent(this));
+            if (tickHandle != null) EventDispatcher.call(tickHandle, EntityTickEvent::new, this);
 
             // remove expired effects
             effectTick(time);
@@ -897,7 +913,12 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
                     instance.getWorldBorder().init(player);
                     player.sendPacket(instance.createTimePacket());
                 }
-                instance.getEntityTracker().register(this, spawnPosition, trackingTarget, trackingUpdate);
+                viewEngine.beginBatch();
+                try {
+                    instance.getEntityTracker().register(this, spawnPosition, trackingTarget, trackingUpdate);
+                } finally {
+                    viewEngine.flushBatch();
+                }
                 spawn();
                 EventDispatcher.call(new EntitySpawnEvent(this, instance));
             } catch (Exception e) {
@@ -1413,7 +1434,12 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         // Handle chunk switch
         final Instance instance = getInstance();
         assert instance != null;
-        instance.getEntityTracker().move(this, newPosition, trackingTarget, trackingUpdate);
+        viewEngine.beginBatch();
+        try {
+            instance.getEntityTracker().move(this, newPosition, trackingTarget, trackingUpdate);
+        } finally {
+            viewEngine.flushBatch();
+        }
         final int lastChunkX = currentChunk.getChunkX();
         final int lastChunkZ = currentChunk.getChunkZ();
         final int newChunkX = newPosition.chunkX();
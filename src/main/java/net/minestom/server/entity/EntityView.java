@@ -8,16 +8,28 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.monitoring.TickMonitor;
+import net.minestom.server.network.packet.server.play.BundlePacket;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 final class EntityView {
     private static final int RANGE = MinecraftServer.getEntityViewDistance();
+    private static final BundlePacket BUNDLE = new BundlePacket();
+    // Entities spawned or removed per bundle, the client rejects bundles of more than 4096 packets
+    // and spawning a single entity can take dozens of packets (metadata, equipment, passengers, effects...)
+    private static final int BUNDLE_ENTITIES = 64;
+
+    private static final LongAdder ADDITIONS = new LongAdder();
+    private static final LongAdder REMOVALS = new LongAdder();
+    private static final LongAdder BATCHES = new LongAdder();
+
     private final Entity entity;
     private final Set<Player> manualViewers = new HashSet<>();
 
@@ -31,6 +43,12 @@ final class EntityView {
 
     private volatile TrackedLocation trackedLocation;
 
+    // Tracker updates received between #beginBatch and #flushBatch
+    // Only accessed by the thread updating the entity position
+    private final List<Entity> batchAdditions = new ArrayList<>();
+    private final List<Entity> batchRemovals = new ArrayList<>();
+    private boolean batching;
+
     public EntityView(Entity entity) {
         this.entity = entity;
         this.viewableOption = new Option<>(EntityTracker.Target.PLAYERS, Entity::autoViewEntities,
@@ -109,13 +127,81 @@ final class EntityView {
     }
 
     public void handleAutoViewAddition(Entity entity) {
+        if (batching) {
+            batchAdditions.add(entity);
+            return;
+        }
+        ADDITIONS.increment();
         handleAutoView(entity, viewerOption.addition, viewableOption.addition);
     }
 
     public void handleAutoViewRemoval(Entity entity) {
+        if (batching) {
+            batchRemovals.add(entity);
+            return;
+        }
+        REMOVALS.increment();
         handleAutoView(entity, viewerOption.removal, viewableOption.removal);
     }
 
+    /**
+     * Starts accumulating the tracker updates, until {@link #flushBatch()} is called.
+     */
+    public void beginBatch() {
+        this.batching = true;
+    }
+
+    /**
+     * Applies the accumulated tracker updates, removals first.
+     * <p>
+     * If this entity is a player, the packets it receives are grouped in bundles
+     * so that the client processes the changes together, each bundle covering at most {@value #BUNDLE_ENTITIES} entities.
+     */
+    public void flushBatch() {
+        this.batching = false;
+        final List<Entity> additions = this.batchAdditions;
+        final List<Entity> removals = this.batchRemovals;
+        final int count = additions.size() + removals.size();
+        if (count == 0) return;
+        ADDITIONS.add(additions.size());
+        REMOVALS.add(removals.size());
+        BATCHES.increment();
+        final Player player = entity instanceof Player p && count > 1 && viewerOption.isAuto() ? p : null;
+        int bundled = 0;
+        try {
+            if (player != null) player.sendPacket(BUNDLE);
+            for (Entity removed : removals) {
+                bundled = splitBundle(player, bundled);
+                handleAutoView(removed, viewerOption.removal, viewableOption.removal);
+            }
+            for (Entity added : additions) {
+                bundled = splitBundle(player, bundled);
+                handleAutoView(added, viewerOption.addition, viewableOption.addition);
+            }
+        } finally {
+            if (player != null) player.sendPacket(BUNDLE);
+            additions.clear();
+            removals.clear();
+        }
+    }
+
+    /**
+     * Starts a new bundle if the current one already covers {@link #BUNDLE_ENTITIES} entities.
+     *
+     * @return the number of entities in the current bundle, including the one about to be handled
+     */
+    private static int splitBundle(@Nullable Player player, int bundled) {
+        if (player == null) return 0;
+        if (bundled < BUNDLE_ENTITIES) return bundled + 1;
+        player.sendPacket(BUNDLE);
+        player.sendPacket(BUNDLE);
+        return 1;
+    }
+
+    static TickMonitor.ViewerChanges resetChanges() {
+        return new TickMonitor.ViewerChanges(ADDITIONS.sumThenReset(), REMOVALS.sumThenReset(), BATCHES.sumThenReset());
+    }
+
     private void handleAutoView(Entity entity, Consumer<Entity> viewer, Consumer<Player> viewable) {
         if (this.entity instanceof Player && viewerOption.isAuto() && entity.isAutoViewable()) {
             if (viewer != null) viewer.accept(entity); // Send packet to this player
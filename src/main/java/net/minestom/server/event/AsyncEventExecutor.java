@@ -0,0 +1,202 @@
+package net.minestom.server.event;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.event.trait.EntityEvent;
+import net.minestom.server.event.trait.InstanceEvent;
+import net.minestom.server.thread.BoundedExecutor;
+import org.jctools.queues.MpmcArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs {@link EventListener.Builder#async(AsyncEventExecutor) async listeners} outside the calling thread.
+ * <p>
+ * Events are distributed over a fixed number of lanes, each lane running its events one at a time in submission order.
+ * Events of the same entity ({@link EntityEvent}) or instance ({@link InstanceEvent}) always use the same lane
+ * and are therefore handled in order, other events share a single lane.
+ * <p>
+ * Lanes are bounded, the {@link OverflowPolicy} decides what happens to events submitted to a full lane.
+ */
+@ApiStatus.Experimental
+public final class AsyncEventExecutor {
+    private final Executor executor;
+    private final OverflowPolicy policy;
+    private final Lane[] lanes;
+    private final int mask;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    // Dropped events which had already been queued
+    private final LongAdder evicted = new LongAdder();
+
+    private AsyncEventExecutor(Executor executor, int lanes, int laneCapacity, OverflowPolicy policy) {
+        if (lanes <= 0) throw new IllegalArgumentException("Lane count must be positive");
+        if (laneCapacity <= 0) throw new IllegalArgumentException("Lane capacity must be positive");
+        this.executor = executor;
+        this.policy = policy;
+        final int count = HashCommon.nextPowerOfTwo(lanes);
+        this.lanes = new Lane[count];
+        for (int i = 0; i < count; i++) this.lanes[i] = new Lane(laneCapacity);
+        this.mask = count - 1;
+    }
+
+    /**
+     * Creates a new async event executor.
+     *
+     * @param executor     the executor running the lanes
+     * @param lanes        the number of lanes, rounded up to a power of two
+     * @param laneCapacity the maximum number of pending events per lane, rounded up to a power of two
+     * @param policy       the policy used when a lane is full
+     * @return a new async event executor
+     */
+    public static @NotNull AsyncEventExecutor create(@NotNull Executor executor, int lanes, int laneCapacity,
+                                                     @NotNull OverflowPolicy policy) {
+        return new AsyncEventExecutor(executor, lanes, laneCapacity, policy);
+    }
+
+    /**
+     * Creates a new async event executor, running its lanes on dedicated platform threads (one per core at most).
+     *
+     * @param laneCapacity the maximum number of pending events per lane, rounded up to a power of two
+     * @param policy       the policy used when a lane is full
+     * @return a new async event executor
+     */
+    public static @NotNull AsyncEventExecutor create(int laneCapacity, @NotNull OverflowPolicy policy) {
+        final int concurrency = Runtime.getRuntime().availableProcessors();
+        return create(BoundedExecutor.create("Ms-event", concurrency, false),
+                concurrency * 4, laneCapacity, policy);
+    }
+
+    /**
+     * Gets the number of events submitted and not yet handled.
+     *
+     * @return the number of queued events
+     */
+    public long queuedEvents() {
+        return submitted.sum() - completed.sum() - evicted.sum();
+    }
+
+    /**
+     * Gets the number of events whose handler has run, including the ones which threw an exception.
+     * <p>
+     * The counter is not synchronized with the lanes, the value is only approximate while events are being handled.
+     *
+     * @return the number of completed events
+     */
+    public long completedEvents() {
+        return completed.sum();
+    }
+
+    /**
+     * Gets the number of events discarded because of a full lane.
+     *
+     * @return the number of dropped events
+     */
+    public long droppedEvents() {
+        return dropped.sum() + evicted.sum();
+    }
+
+    <E extends Event> void submit(@NotNull E event, @NotNull Runnable handler) {
+        final Lane lane = lanes[HashCommon.mix(orderKey(event)) & mask];
+        final MpmcArrayQueue<Runnable> queue = lane.queue;
+        while (!queue.offer(handler)) {
+            switch (policy) {
+                case DROP_NEWEST -> {
+                    this.dropped.increment();
+                    return;
+                }
+                case DROP_OLDEST -> {
+                    if (queue.poll() != null) this.evicted.increment();
+                }
+                case BLOCK -> {
+                    // Ensure that the lane is making progress
+                    lane.schedule();
+                    LockSupport.parkNanos(50_000);
+                }
+            }
+        }
+        this.submitted.increment();
+        lane.schedule();
+    }
+
+    /**
+     * Gets the key deciding the lane of an event, events with the same key are handled in order.
+     * <p>
+     * Events unrelated to an entity or an instance return 0, they therefore all share one lane
+     * and are handled one at a time no matter the lane count.
+     */
+    private static int orderKey(Event event) {
+        if (event instanceof EntityEvent entityEvent) return entityEvent.getEntity().getEntityId();
+        if (event instanceof InstanceEvent instanceEvent) return System.identityHashCode(instanceEvent.getInstance());
+        return 0;
+    }
+
+    /**
+     * Behavior when an event is submitted to a full lane.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discards the submitted event.
+         */
+        DROP_NEWEST,
+        /**
+         * Discards the oldest pending event of the lane.
+         */
+        DROP_OLDEST,
+        /**
+         * Waits for the lane to have room, slowing down the calling thread.
+         * <p>
+         * The caller is repeatedly parked until the lane has room, when events are called from a tick thread
+         * the whole tick is delayed. Only use with listeners which cannot fall behind for long.
+         */
+        BLOCK
+    }
+
+    private final class Lane implements Runnable {
+        // Maximum number of events handled before giving the worker back to the executor
+        private static final int BATCH_SIZE = 64;
+
+        private final MpmcArrayQueue<Runnable> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Lane(int capacity) {
+            this.queue = new MpmcArrayQueue<>(capacity);
+        }
+
+        void schedule() {
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (Throwable t) {
+                    this.scheduled.set(false);
+                    throw t;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            Runnable handler;
+            int count = 0;
+            while (count++ < BATCH_SIZE && (handler = queue.poll()) != null) {
+                try {
+                    handler.run();
+                } catch (Throwable t) {
+                    MinecraftServer.getExceptionManager().handleException(t);
+                } finally {
+                    completed.increment();
+                }
+            }
+            this.scheduled.set(false);
+            // Events may have been submitted after the last poll
+            schedule();
+        }
+    }
+}
@@ -3,6 +3,9 @@ package net.minestom.server.event;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.trait.CancellableEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
 
 public final class EventDispatcher {
 
@@ -14,6 +17,28 @@ public final class EventDispatcher {
         return MinecraftServer.getGlobalEventHandler().getHandle(handleType);
     }
 
+    /**
+     * Calls the event created by {@code constructor}, only constructed if {@code handle} has a listener.
+     * <p>
+     * Meant to be used with a constructor reference (e.g. {@code EntityTickEvent::new}), which does not capture
+     * anything and is not allocated. Events requiring more arguments should check {@link ListenerHandle#hasListener()}
+     * before being constructed.
+     *
+     * @param handle      the handle to call
+     * @param constructor the event constructor
+     * @param argument    the constructor argument
+     * @param <E>         the event type
+     * @param <A>         the argument type
+     * @return the called event, null if there was no listener
+     */
+    public static <E extends Event, A> @Nullable E call(@NotNull ListenerHandle<E> handle,
+                                                        @NotNull Function<A, E> constructor, A argument) {
+        if (!handle.hasListener()) return null;
+        final E event = constructor.apply(argument);
+        handle.call(event);
+        return event;
+    }
+
     public static void callCancellable(@NotNull CancellableEvent event, @NotNull Runnable successCallback) {
         MinecraftServer.getGlobalEventHandler().callCancellable(event, successCallback);
     }
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Represents an event listener (handler) in an event graph.
@@ -49,6 +50,8 @@ public interface EventListener<T extends Event> {
         private int expireCount;
         private Predicate<T> expireWhen;
         private Consumer<T> handler;
+        private AsyncEventExecutor asyncExecutor;
+        private UnaryOperator<T> asyncSnapshot;
 
         protected Builder(Class<T> eventType) {
             this.eventType = eventType;
@@ -110,6 +113,34 @@ public interface EventListener<T extends Event> {
             return this;
         }
 
+        /**
+         * Runs the handler in {@code executor} instead of the thread calling the event.
+         * <p>
+         * Cancellation, filters and expiration are still checked in the calling thread.
+         * The handler runs later, and may see the event modified by other listeners in the meantime.
+         * Modifying the event from the handler has no effect on the caller (e.g. cannot cancel it).
+         *
+         * @param executor the executor running the handler
+         */
+        @Contract(value = "_ -> this")
+        public @NotNull EventListener.Builder<T> async(@NotNull AsyncEventExecutor executor) {
+            return async(executor, UnaryOperator.identity());
+        }
+
+        /**
+         * Runs the handler in {@code executor} with a copy of the event, created in the calling thread.
+         *
+         * @param executor the executor running the handler
+         * @param snapshot creates an immutable copy of mutable events
+         * @see #async(AsyncEventExecutor)
+         */
+        @Contract(value = "_, _ -> this")
+        public @NotNull EventListener.Builder<T> async(@NotNull AsyncEventExecutor executor, @NotNull UnaryOperator<T> snapshot) {
+            this.asyncExecutor = executor;
+            this.asyncSnapshot = snapshot;
+            return this;
+        }
+
         @Contract(value = "-> new", pure = true)
         public @NotNull EventListener<T> build() {
             final boolean ignoreCancelled = this.ignoreCancelled;
@@ -119,7 +150,7 @@ public interface EventListener<T extends Event> {
             final Predicate<T> expireWhen = this.expireWhen;
 
             final var filters = new ArrayList<>(this.filters);
-            final var handler = this.handler;
+            final var handler = asyncHandler(this.handler);
             return new EventListener<>() {
                 @Override
                 public @NotNull Class<T> eventType() {
@@ -158,6 +189,16 @@ public interface EventListener<T extends Event> {
                 }
             };
         }
+
+        private Consumer<T> asyncHandler(Consumer<T> handler) {
+            final AsyncEventExecutor executor = this.asyncExecutor;
+            if (handler == null || executor == null) return handler;
+            final UnaryOperator<T> snapshot = this.asyncSnapshot;
+            return event -> {
+                final T copy = snapshot.apply(event);
+                executor.submit(copy, () -> handler.accept(copy));
+            };
+        }
     }
 
     enum Result {
@@ -329,6 +329,22 @@ public sealed interface EventNode<T extends Event> permits EventNodeImpl {
         return addListener(EventListener.of(eventType, listener));
     }
 
+    /**
+     * Adds a listener running in {@code executor} instead of the thread calling the event.
+     *
+     * @param eventType the event type to listen to
+     * @param executor  the executor running the listener
+     * @param listener  the listener
+     * @return this node
+     * @see EventListener.Builder#async(AsyncEventExecutor)
+     */
+    @ApiStatus.Experimental
+    @Contract(value = "_, _, _ -> this")
+    default <E extends T> @NotNull EventNode<T> addAsyncListener(@NotNull Class<E> eventType, @NotNull AsyncEventExecutor executor,
+                                                                 @NotNull Consumer<@NotNull E> listener) {
+        return addListener(EventListener.builder(eventType).async(executor).handler(listener).build());
+    }
+
     @Contract(value = "_ -> this")
     @NotNull EventNode<T> removeListener(@NotNull EventListener<? extends T> listener);
 
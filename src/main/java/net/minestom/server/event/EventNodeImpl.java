@@ -13,7 +13,6 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 
@@ -49,6 +48,9 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     @Override
     @SuppressWarnings("unchecked")
     public <E extends T> @NotNull ListenerHandle<E> getHandle(@NotNull Class<E> handleType) {
+        // Avoid allocating the capturing mapping function when the handle already exists
+        final Handle<T> handle = handleMap.get(handleType);
+        if (handle != null) return (ListenerHandle<E>) handle;
         return (ListenerHandle<E>) handleMap.computeIfAbsent(handleType,
                 aClass -> new Handle<>((Class<T>) aClass));
     }
@@ -312,7 +314,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     @SuppressWarnings("unchecked")
     final class Handle<E extends Event> implements ListenerHandle<E> {
         private final Class<E> eventType;
-        private Consumer<E> listener = null;
+        private Plan<E> plan = null;
         private volatile boolean updated;
 
         Handle(Class<E> eventType) {
@@ -321,10 +323,10 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
         @Override
         public void call(@NotNull E event) {
-            final Consumer<E> listener = updatedListener();
-            if (listener == null) return;
+            final Plan<E> plan = updatedPlan();
+            if (plan == null) return;
             try {
-                listener.accept(event);
+                plan.run(this, event);
             } catch (Throwable e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
@@ -332,121 +334,77 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
         @Override
         public boolean hasListener() {
-            return updatedListener() != null;
+            return updatedPlan() != null;
         }
 
         void invalidate() {
             this.updated = false;
         }
 
-        @Nullable Consumer<E> updatedListener() {
-            if (updated) return listener;
+        @Nullable Plan<E> updatedPlan() {
+            if (updated) return plan;
             synchronized (GLOBAL_CHILD_LOCK) {
-                if (updated) return listener;
-                final Consumer<E> listener = createConsumer();
-                this.listener = listener;
+                if (updated) return plan;
+                final Plan<E> plan = createPlan();
+                this.plan = plan;
                 this.updated = true;
-                return listener;
+                return plan;
             }
         }
 
-        private @Nullable Consumer<E> createConsumer() {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+        private @Nullable Plan<E> createPlan() {
+            Plan.Builder<E> builder = new Plan.Builder<>();
+            appendNode(builder, (EventNodeImpl<E>) EventNodeImpl.this);
+            return builder.build();
+        }
+
+        /**
+         * Flattens {@code node} and its children into the plan, most computation should ideally be done here
+         * as a one-time cost.
+         */
+        private void appendNode(Plan.Builder<E> builder, EventNodeImpl<E> node) {
+            final int start = builder.size();
+            // Filtering, skips the whole subtree
+            if (node.predicate != null) builder.add(Plan.FILTER, node, null);
             // Standalone listeners
-            List<Consumer<E>> listeners = new ArrayList<>();
             forTargetEvents(eventType, type -> {
                 final ListenerEntry<E> entry = node.listenerMap.get(type);
-                if (entry != null) {
-                    final Consumer<E> result = listenersConsumer(entry);
-                    if (result != null) listeners.add(result);
+                if (entry == null) return;
+                for (EventListener<E> listener : entry.listeners) {
+                    builder.add(Plan.LISTENER, node, listener);
+                }
+                for (Consumer<E> binding : entry.bindingConsumers) {
+                    builder.add(Plan.BINDING, node, binding);
                 }
             });
-            final Consumer<E>[] listenersArray = listeners.toArray(Consumer[]::new);
             // Mapped
-            final Consumer<E> mappedListener = mappedConsumer();
+            final MappedHandles<E> mappedHandles = mappedHandles(node);
+            if (mappedHandles != null) builder.add(Plan.MAPPED, node, mappedHandles);
             // Children
-            final Consumer<E>[] childrenListeners = node.children.stream()
+            final EventNodeImpl<E>[] children = node.children.stream()
                     .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
                     .sorted(Comparator.comparing(EventNode::getPriority))
-                    .map(child -> ((Handle<E>) child.getHandle(eventType)).updatedListener())
-                    .filter(Objects::nonNull)
-                    .toArray(Consumer[]::new);
-            // Empty check
-            final BiPredicate<E, Object> predicate = node.predicate;
-            final EventFilter<E, ?> filter = node.filter;
-            final boolean hasPredicate = predicate != null;
-            final boolean hasListeners = listenersArray.length > 0;
-            final boolean hasMap = mappedListener != null;
-            final boolean hasChildren = childrenListeners.length > 0;
-            if (!hasListeners && !hasMap && !hasChildren) {
-                // No listener
-                return null;
+                    .toArray(EventNodeImpl[]::new);
+            for (EventNodeImpl<E> child : children) {
+                appendNode(builder, child);
             }
-            return e -> {
-                // Filtering
-                if (hasPredicate) {
-                    final Object value = filter.getHandler(e);
-                    if (!predicate.test(e, value)) return;
-                }
-                // Normal listeners
-                if (hasListeners) {
-                    for (Consumer<E> listener : listenersArray) {
-                        listener.accept(e);
-                    }
-                }
-                // Mapped nodes
-                if (hasMap) mappedListener.accept(e);
-                // Children
-                if (hasChildren) {
-                    for (Consumer<E> childHandle : childrenListeners) {
-                        childHandle.accept(e);
-                    }
-                }
-            };
-        }
-
-        /**
-         * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
-         * {@link EventNode#register(EventBinding)}.
-         * <p>
-         * Most computation should ideally be done outside the consumers as a one-time cost.
-         */
-        private @Nullable Consumer<E> listenersConsumer(@NotNull ListenerEntry<E> entry) {
-            final EventListener<E>[] listenersCopy = entry.listeners.toArray(EventListener[]::new);
-            final Consumer<E>[] bindingsCopy = entry.bindingConsumers.toArray(Consumer[]::new);
-            final boolean listenersEmpty = listenersCopy.length == 0;
-            final boolean bindingsEmpty = bindingsCopy.length == 0;
-            if (listenersEmpty && bindingsEmpty) return null;
-            if (bindingsEmpty && listenersCopy.length == 1) {
-                // Only one normal listener
-                final EventListener<E> listener = listenersCopy[0];
-                return e -> callListener(listener, e);
+            if (node.predicate != null) {
+                // Do not test the predicate of nodes without any listener
+                if (builder.size() == start + 1) builder.truncate(start);
+                else builder.jumpTo(start, builder.size());
             }
-            // Worse case scenario, try to run everything
-            return e -> {
-                if (!listenersEmpty) {
-                    for (EventListener<E> listener : listenersCopy) {
-                        callListener(listener, e);
-                    }
-                }
-                if (!bindingsEmpty) {
-                    for (Consumer<E> eConsumer : bindingsCopy) {
-                        eConsumer.accept(e);
-                    }
-                }
-            };
         }
 
         /**
-         * Create a consumer handling {@link EventNode#map(Object, EventFilter)}.
-         * The goal is to limit the amount of map lookup.
+         * Create the lookup table handling {@link EventNode#map(Object, EventFilter)}.
+         * The goal is to limit the amount of work per event to a single identity hash lookup per filter.
          */
-        private @Nullable Consumer<E> mappedConsumer() {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+        private @Nullable MappedHandles<E> mappedHandles(EventNodeImpl<E> node) {
             final var mappedNodeCache = node.registeredMappedNode;
             if (mappedNodeCache.isEmpty()) return null;
             Set<EventFilter<E, ?>> filters = new HashSet<>(mappedNodeCache.size());
-            Map<Object, WeakReference<Handle<E>>> handlers = new WeakHashMap<>(mappedNodeCache.size());
+            List<Object> keys = new ArrayList<>(mappedNodeCache.size());
+            List<EventNodeImpl<?>.Handle<E>> handles = new ArrayList<>(mappedNodeCache.size());
 
             // Retrieve all filters used to retrieve potential handlers
             for (var mappedEntry : mappedNodeCache.entrySet()) {
@@ -454,40 +412,16 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
                 final Handle<E> handle = (Handle<E>) mappedNode.getHandle(eventType);
                 if (!handle.hasListener()) continue; // Implicit update
                 filters.add(mappedNode.filter);
-                handlers.put(mappedEntry.getKey(), new WeakReference<>(handle));
+                keys.add(mappedEntry.getKey());
+                handles.add(handle);
             }
             // If at least one mapped node listen to this handle type,
             // loop through them and forward to mapped node if there is a match
             if (filters.isEmpty()) return null;
-            final EventFilter<E, ?>[] filterList = filters.toArray(EventFilter[]::new);
-            final BiConsumer<EventFilter<E, ?>, E> mapper = (filter, event) -> {
-                final Object handler = filter.castHandler(event);
-                final WeakReference<Handle<E>> handleRef = handlers.get(handler);
-                final Handle<E> handle = handleRef != null ? handleRef.get() : null;
-                if (handle != null) handle.call(event);
-            };
-            // Specialize the consumer depending on the number of filters to avoid looping
-            return switch (filterList.length) {
-                case 1 -> event -> mapper.accept(filterList[0], event);
-                case 2 -> event -> {
-                    mapper.accept(filterList[0], event);
-                    mapper.accept(filterList[1], event);
-                };
-                case 3 -> event -> {
-                    mapper.accept(filterList[0], event);
-                    mapper.accept(filterList[1], event);
-                    mapper.accept(filterList[2], event);
-                };
-                default -> event -> {
-                    for (var filter : filterList) {
-                        mapper.accept(filter, event);
-                    }
-                };
-            };
+            return new MappedHandles<>(filters.toArray(EventFilter[]::new), keys, handles);
         }
 
-        void callListener(@NotNull EventListener<E> listener, E event) {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+        void callListener(@NotNull EventNodeImpl<E> node, @NotNull EventListener<E> listener, E event) {
             EventListener.Result result = listener.run(event);
             if (result == EventListener.Result.EXPIRED) {
                 node.removeListener(listener);
@@ -495,4 +429,153 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
             }
         }
     }
+
+    /**
+     * Flattened view of a node subtree for a single event type.
+     * <p>
+     * Steps are executed in order: node filters, listeners, bindings and mapped node lookups.
+     * A failing filter jumps over the steps of its subtree.
+     */
+    @SuppressWarnings("unchecked")
+    static final class Plan<E extends Event> {
+        static final byte FILTER = 0;
+        static final byte LISTENER = 1;
+        static final byte BINDING = 2;
+        static final byte MAPPED = 3;
+
+        private final byte[] operations;
+        private final EventNodeImpl<E>[] nodes;
+        private final Object[] targets;
+        private final int[] jumps;
+
+        private Plan(byte[] operations, EventNodeImpl<E>[] nodes, Object[] targets, int[] jumps) {
+            this.operations = operations;
+            this.nodes = nodes;
+            this.targets = targets;
+            this.jumps = jumps;
+        }
+
+        void run(EventNodeImpl<?>.Handle<E> handle, E event) {
+            final byte[] operations = this.operations;
+            final int length = operations.length;
+            int i = 0;
+            while (i < length) {
+                switch (operations[i]) {
+                    case FILTER -> {
+                        final EventNodeImpl<E> node = nodes[i];
+                        final Object value = node.filter.getHandler(event);
+                        if (!node.predicate.test(event, value)) {
+                            i = jumps[i];
+                            continue;
+                        }
+                    }
+                    case LISTENER -> handle.callListener(nodes[i], (EventListener<E>) targets[i], event);
+                    case BINDING -> ((Consumer<E>) targets[i]).accept(event);
+                    case MAPPED -> ((MappedHandles<E>) targets[i]).call(event);
+                }
+                i++;
+            }
+        }
+
+        static final class Builder<E extends Event> {
+            private byte[] operations = new byte[8];
+            private EventNodeImpl<E>[] nodes = new EventNodeImpl[8];
+            private Object[] targets = new Object[8];
+            private int[] jumps = new int[8];
+            private int size;
+
+            int size() {
+                return size;
+            }
+
+            void add(byte operation, EventNodeImpl<E> node, Object target) {
+                if (size == operations.length) {
+                    final int length = size * 2;
+                    this.operations = Arrays.copyOf(operations, length);
+                    this.nodes = Arrays.copyOf(nodes, length);
+                    this.targets = Arrays.copyOf(targets, length);
+                    this.jumps = Arrays.copyOf(jumps, length);
+                }
+                this.operations[size] = operation;
+                this.nodes[size] = node;
+                this.targets[size] = target;
+                this.jumps[size++] = -1;
+            }
+
+            void jumpTo(int index, int target) {
+                this.jumps[index] = target;
+            }
+
+            void truncate(int size) {
+                Arrays.fill(nodes, size, this.size, null);
+                Arrays.fill(targets, size, this.size, null);
+                this.size = size;
+            }
+
+            @Nullable Plan<E> build() {
+                // Only failing filters left
+                boolean empty = true;
+                for (int i = 0; i < size; i++) {
+                    if (operations[i] != FILTER) {
+                        empty = false;
+                        break;
+                    }
+                }
+                if (empty) return null;
+                return new Plan<>(Arrays.copyOf(operations, size), Arrays.copyOf(nodes, size),
+                        Arrays.copyOf(targets, size), Arrays.copyOf(jumps, size));
+            }
+        }
+    }
+
+    /**
+     * Immutable open addressing table from mapped objects to the handle of their node, compared by identity.
+     * <p>
+     * Safe to read from multiple threads, and references are weak to not retain unmapped nodes
+     * until the next plan update.
+     */
+    @SuppressWarnings("unchecked")
+    static final class MappedHandles<E extends Event> {
+        private final EventFilter<E, ?>[] filters;
+        private final WeakReference<Object>[] keys;
+        private final WeakReference<EventNodeImpl<?>.Handle<E>>[] handles;
+        private final int mask;
+
+        MappedHandles(EventFilter<E, ?>[] filters, List<Object> keys, List<EventNodeImpl<?>.Handle<E>> handles) {
+            this.filters = filters;
+            // Keep the load factor under 0.5
+            final int capacity = Integer.highestOneBit(Math.max(2, keys.size()) * 2 - 1) << 1;
+            this.keys = new WeakReference[capacity];
+            this.handles = new WeakReference[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < keys.size(); i++) {
+                final Object key = keys.get(i);
+                int index = System.identityHashCode(key) & mask;
+                while (this.keys[index] != null) index = (index + 1) & mask;
+                this.keys[index] = new WeakReference<>(key);
+                this.handles[index] = new WeakReference<>(handles.get(i));
+            }
+        }
+
+        void call(E event) {
+            for (EventFilter<E, ?> filter : filters) {
+                final Object handler = filter.castHandler(event);
+                if (handler == null) continue;
+                final EventNodeImpl<?>.Handle<E> handle = get(handler);
+                if (handle != null) handle.call(event);
+            }
+        }
+
+        @Nullable EventNodeImpl<?>.Handle<E> get(Object key) {
+            final WeakReference<Object>[] keys = this.keys;
+            final int mask = this.mask;
+            int index = System.identityHashCode(key) & mask;
+            WeakReference<Object> candidate;
+            while ((candidate = keys[index]) != null) {
+                if (candidate.get() == key) return handles[index].get();
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+    }
 }
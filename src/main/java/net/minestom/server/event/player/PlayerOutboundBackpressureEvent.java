@@ -0,0 +1,51 @@
+package net.minestom.server.event.player;
+
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.trait.PlayerEvent;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Called asynchronously from the network worker when the outbound data queued for a player
+ * crosses the connection high watermark, or goes back below its low watermark.
+ * <p>
+ * Can be used to stop sending non-essential packets to slow clients, or to kick them.
+ *
+ * @see PlayerSocketConnection#setWatermarks(int, int)
+ */
+@ApiStatus.Experimental
+public class PlayerOutboundBackpressureEvent implements PlayerEvent {
+    private final Player player;
+    private final boolean writable;
+    private final long queuedBytes;
+
+    public PlayerOutboundBackpressureEvent(@NotNull Player player, boolean writable, long queuedBytes) {
+        this.player = player;
+        this.writable = writable;
+        this.queuedBytes = queuedBytes;
+    }
+
+    @Override
+    public @NotNull Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets if the connection went back below its low watermark.
+     *
+     * @return false if the high watermark has been crossed, true if the queue drained below the low watermark
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Gets the number of bytes waiting to be written to the socket when the event has been triggered.
+     *
+     * @return the queued bytes
+     */
+    public long getQueuedBytes() {
+        return queuedBytes;
+    }
+}
@@ -3,11 +3,14 @@ package net.minestom.server.instance;
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntIntImmutablePair;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.world.biomes.Biome;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -22,21 +25,21 @@ import org.jglrxavpok.hephaistos.nbt.mutable.MutableNBTCompound;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 public class AnvilLoader implements IChunkLoader {
     private final static Logger LOGGER = LoggerFactory.getLogger(AnvilLoader.class);
     private static final Biome BIOME = Biome.PLAINS;
 
-    private final Map<String, RegionFile> alreadyLoaded = new ConcurrentHashMap<>();
+    private final Map<String, AnvilRegion> alreadyLoaded = new ConcurrentHashMap<>();
     private final Path path;
     private final Path levelPath;
     private final Path regionPath;
@@ -90,11 +93,11 @@ public class AnvilLoader implements IChunkLoader {
         return CompletableFuture.completedFuture(null);
     }
 
-    private @NotNull CompletableFuture<@Nullable Chunk> loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException, AnvilException {
-        final RegionFile mcaFile = getMCAFile(instance, chunkX, chunkZ);
+    private @NotNull CompletableFuture<@Nullable Chunk> loadMCA(Instance instance, int chunkX, int chunkZ) throws IOException, AnvilException, NBTException {
+        final AnvilRegion mcaFile = getMCAFile(chunkX, chunkZ);
         if (mcaFile == null)
             return CompletableFuture.completedFuture(null);
-        final NBTCompound chunkData = mcaFile.getChunkData(chunkX, chunkZ);
+        final NBTCompound chunkData = mcaFile.read(chunkX, chunkZ);
         if (chunkData == null)
             return CompletableFuture.completedFuture(null);
 
@@ -136,21 +139,21 @@ public class AnvilLoader implements IChunkLoader {
         return CompletableFuture.completedFuture(chunk);
     }
 
-    private @Nullable RegionFile getMCAFile(Instance instance, int chunkX, int chunkZ) {
+    private @Nullable AnvilRegion getMCAFile(int chunkX, int chunkZ) {
         final int regionX = CoordinatesKt.chunkToRegion(chunkX);
         final int regionZ = CoordinatesKt.chunkToRegion(chunkZ);
         return alreadyLoaded.computeIfAbsent(RegionFile.Companion.createFileName(regionX, regionZ), n -> {
             try {
-                final Path regionPath = this.regionPath.resolve(n);
-                if (!Files.exists(regionPath)) {
+                final AnvilRegion region = AnvilRegion.open(this.regionPath.resolve(n), false);
+                if (region == null) {
                     return null;
                 }
                 synchronized (perRegionLoadedChunks) {
                     Set<IntIntImmutablePair> previousVersion = perRegionLoadedChunks.put(new IntIntImmutablePair(regionX, regionZ), new HashSet<>());
                     assert previousVersion == null : "The AnvilLoader cache should not already have data for this region.";
                 }
-                return new RegionFile(new RandomAccessFile(regionPath.toFile(), "rw"), regionX, regionZ, instance.getDimensionType().getMinY(), instance.getDimensionType().getMaxY() - 1);
-            } catch (IOException | AnvilException e) {
+                return region;
+            } catch (IOException e) {
                 MinecraftServer.getExceptionManager().handleException(e);
                 return null;
             }
@@ -320,43 +323,110 @@ public class AnvilLoader implements IChunkLoader {
 
     @Override
     public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
-        final int chunkX = chunk.getChunkX();
-        final int chunkZ = chunk.getChunkZ();
-        RegionFile mcaFile;
+        try {
+            saveRegion(List.of(chunk));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return AsyncUtils.VOID_FUTURE;
+    }
+
+    /**
+     * Saves multiple chunks, grouped by region so that each region file is written in a single pass.
+     * <p>
+     * Regions are saved in parallel when {@link #supportsParallelSaving()} is enabled.
+     *
+     * @param chunks the chunks to save
+     * @return a {@link CompletableFuture} completed once all the regions have been written,
+     * completed exceptionally if any chunk failed to be saved
+     */
+    @Override
+    public @NotNull CompletableFuture<Void> saveChunks(@NotNull Collection<Chunk> chunks) {
+        if (chunks.isEmpty()) return AsyncUtils.VOID_FUTURE;
+        Long2ObjectMap<List<Chunk>> regions = new Long2ObjectOpenHashMap<>();
+        for (Chunk chunk : chunks) {
+            final long regionIndex = ChunkUtils.getChunkIndex(
+                    CoordinatesKt.chunkToRegion(chunk.getChunkX()), CoordinatesKt.chunkToRegion(chunk.getChunkZ()));
+            regions.computeIfAbsent(regionIndex, i -> new ArrayList<>()).add(chunk);
+        }
+        if (!supportsParallelSaving()) {
+            IOException failure = null;
+            for (List<Chunk> regionChunks : regions.values()) {
+                try {
+                    saveRegion(regionChunks);
+                } catch (IOException e) {
+                    if (failure == null) failure = e;
+                    else failure.addSuppressed(e);
+                }
+            }
+            return failure == null ? AsyncUtils.VOID_FUTURE : CompletableFuture.failedFuture(failure);
+        }
+        final Executor executor = InstanceContainer.chunkExecutor(chunks.iterator().next());
+        CompletableFuture<?>[] futures = new CompletableFuture[regions.size()];
+        int i = 0;
+        for (List<Chunk> regionChunks : regions.values()) {
+            futures[i++] = CompletableFuture.runAsync(() -> {
+                try {
+                    saveRegion(regionChunks);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Serializes and writes chunks belonging to the same region.
+     * <p>
+     * The chunks which could be encoded are written even if others failed.
+     *
+     * @throws IOException if the region could not be opened or written, or if a chunk could not be encoded
+     */
+    private void saveRegion(List<Chunk> chunks) throws IOException {
+        final Chunk first = chunks.get(0);
+        final int regionX = CoordinatesKt.chunkToRegion(first.getChunkX());
+        final int regionZ = CoordinatesKt.chunkToRegion(first.getChunkZ());
+        final AnvilRegion mcaFile;
         synchronized (alreadyLoaded) {
-            mcaFile = getMCAFile(chunk.instance, chunkX, chunkZ);
-            if (mcaFile == null) {
-                final int regionX = CoordinatesKt.chunkToRegion(chunkX);
-                final int regionZ = CoordinatesKt.chunkToRegion(chunkZ);
+            final AnvilRegion loaded = getMCAFile(first.getChunkX(), first.getChunkZ());
+            if (loaded != null) {
+                mcaFile = loaded;
+            } else {
                 final String n = RegionFile.Companion.createFileName(regionX, regionZ);
-                File regionFile = new File(regionPath.toFile(), n);
                 try {
-                    if (!regionFile.exists()) {
-                        if (!regionFile.getParentFile().exists()) {
-                            regionFile.getParentFile().mkdirs();
-                        }
-                        regionFile.createNewFile();
-                    }
-                    mcaFile = new RegionFile(new RandomAccessFile(regionFile, "rw"), regionX, regionZ);
+                    mcaFile = Objects.requireNonNull(AnvilRegion.open(regionPath.resolve(n), true));
                     alreadyLoaded.put(n, mcaFile);
-                } catch (AnvilException | IOException e) {
-                    LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
-                    MinecraftServer.getExceptionManager().handleException(e);
-                    return AsyncUtils.VOID_FUTURE;
+                } catch (IOException e) {
+                    LOGGER.error("Failed to save region " + regionX + ", " + regionZ, e);
+                    throw e;
                 }
             }
         }
-        ChunkWriter writer = new ChunkWriter(SupportedVersion.Companion.getLatest());
-        save(chunk, writer);
+        List<AnvilRegion.Entry> entries = new ArrayList<>(chunks.size());
+        IOException failure = null;
+        for (Chunk chunk : chunks) {
+            final int chunkX = chunk.getChunkX();
+            final int chunkZ = chunk.getChunkZ();
+            ChunkWriter writer = new ChunkWriter(SupportedVersion.Companion.getLatest());
+            save(chunk, writer);
+            try {
+                LOGGER.debug("Attempt saving at {} {}", chunkX, chunkZ);
+                entries.add(AnvilRegion.encode(chunkX, chunkZ, writer.toNBT()));
+            } catch (IOException e) {
+                LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
         try {
-            LOGGER.debug("Attempt saving at {} {}", chunk.getChunkX(), chunk.getChunkZ());
-            mcaFile.writeColumnData(writer.toNBT(), chunk.getChunkX(), chunk.getChunkZ());
+            mcaFile.write(entries);
         } catch (IOException e) {
-            LOGGER.error("Failed to save chunk " + chunkX + ", " + chunkZ, e);
-            MinecraftServer.getExceptionManager().handleException(e);
-            return AsyncUtils.VOID_FUTURE;
+            LOGGER.error("Failed to save region " + regionX + ", " + regionZ, e);
+            if (failure != null) e.addSuppressed(failure);
+            throw e;
         }
-        return AsyncUtils.VOID_FUTURE;
+        if (failure != null) throw failure;
     }
 
     private BlockState getBlockState(final Block block) {
@@ -455,7 +525,7 @@ public class AnvilLoader implements IChunkLoader {
 
                 if (chunks.isEmpty()) {
                     perRegionLoadedChunks.remove(regionKey);
-                    RegionFile regionFile = alreadyLoaded.remove(RegionFile.Companion.createFileName(regionX, regionZ));
+                    AnvilRegion regionFile = alreadyLoaded.remove(RegionFile.Companion.createFileName(regionX, regionZ));
                     if (regionFile != null) {
                         try {
                             regionFile.close();
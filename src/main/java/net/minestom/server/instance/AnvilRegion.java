@@ -0,0 +1,282 @@
+package net.minestom.server.instance;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jglrxavpok.hephaistos.nbt.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A single anvil region file (32x32 chunks).
+ * <p>
+ * The header (location and timestamp tables) is memory-mapped so that chunk lookups do not require any I/O,
+ * and writes are done in batches: all the chunks of a batch are allocated, written in file order
+ * using gathering writes, and forced to disk before the header entries pointing to them are updated.
+ * The header itself is forced when the region is closed.
+ */
+final class AnvilRegion implements AutoCloseable {
+    static final int SECTOR_SIZE = 4096;
+    private static final int CHUNK_COUNT = 32 * 32;
+    private static final int HEADER_SIZE = CHUNK_COUNT * 4 * 2;
+    private static final int HEADER_SECTORS = HEADER_SIZE / SECTOR_SIZE;
+    private static final int MAX_SECTOR_COUNT = 255;
+
+    private static final byte COMPRESSION_GZIP = 1;
+    private static final byte COMPRESSION_ZLIB = 2;
+    private static final byte COMPRESSION_NONE = 3;
+    private static final byte EXTERNAL_FLAG = (byte) 128;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final BitSet usedSectors = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private AnvilRegion(Path path, FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        // Mapping in read-write mode grows the file to the header size if needed
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        this.usedSectors.set(0, HEADER_SECTORS);
+        for (int i = 0; i < CHUNK_COUNT; i++) {
+            final int location = header.getInt(i * 4);
+            if (location == 0) continue;
+            final int offset = location >>> 8;
+            final int count = location & 0xFF;
+            this.usedSectors.set(offset, offset + count);
+        }
+    }
+
+    /**
+     * Opens a region file.
+     *
+     * @param path   the path of the region file
+     * @param create true to create the file (and its parent directories) if it does not exist
+     * @return the region, or null if the file does not exist and {@code create} is false
+     * @throws IOException if the file cannot be opened
+     */
+    static @Nullable AnvilRegion open(@NotNull Path path, boolean create) throws IOException {
+        if (!Files.exists(path)) {
+            if (!create) return null;
+            final Path parent = path.getParent();
+            if (parent != null) Files.createDirectories(parent);
+        }
+        final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        try {
+            return new AnvilRegion(path, channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Encodes chunk data into its sector-aligned on-disk representation.
+     * <p>
+     * Can be called from any thread, compression happens outside the region lock.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param nbt    the chunk data
+     * @return the encoded chunk, ready to be given to {@link #write(List)}
+     */
+    static @NotNull Entry encode(int chunkX, int chunkZ, @NotNull NBTCompound nbt) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(SECTOR_SIZE);
+        // Reserve the length + compression header, filled below
+        output.write(new byte[5]);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(output);
+             NBTWriter writer = new NBTWriter(deflater, CompressedProcesser.NONE)) {
+            writer.writeNamed("", nbt);
+        }
+        final int length = output.size();
+        final int sectors = (length + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        if (sectors > MAX_SECTOR_COUNT) {
+            throw new IOException("Chunk " + chunkX + ", " + chunkZ + " is too large to be saved (" + length + " bytes)");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(sectors * SECTOR_SIZE);
+        buffer.put(output.toByteArray(), 0, length);
+        buffer.putInt(0, length - 4).put(4, COMPRESSION_ZLIB);
+        return new Entry(chunkX, chunkZ, buffer.clear());
+    }
+
+    /**
+     * Reads the data of a chunk.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return the chunk data, or null if the chunk is not present in this region
+     */
+    @Nullable NBTCompound read(int chunkX, int chunkZ) throws IOException, NBTException {
+        final byte[] data;
+        final byte compression;
+        lock.readLock().lock();
+        try {
+            final int location = header.getInt(index(chunkX, chunkZ) * 4);
+            if (location == 0) return null;
+            final long position = (long) (location >>> 8) * SECTOR_SIZE;
+            final int capacity = (location & 0xFF) * SECTOR_SIZE;
+
+            ByteBuffer chunkHeader = ByteBuffer.allocate(5);
+            readFully(chunkHeader, position);
+            final int length = chunkHeader.getInt(0);
+            compression = chunkHeader.get(4);
+            if ((compression & EXTERNAL_FLAG) != 0) {
+                throw new IOException("External chunk streams are not supported (" + path + ")");
+            }
+            if (length <= 1 || length + 4 > capacity) {
+                throw new IOException("Invalid chunk length " + length + " at " + chunkX + ", " + chunkZ + " (" + path + ")");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(length - 1);
+            readFully(buffer, position + 5);
+            data = buffer.array();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        InputStream input = new ByteArrayInputStream(data);
+        input = switch (compression) {
+            case COMPRESSION_GZIP -> new GZIPInputStream(input);
+            case COMPRESSION_ZLIB -> new InflaterInputStream(input);
+            case COMPRESSION_NONE -> input;
+            default -> throw new IOException("Unknown chunk compression " + compression + " (" + path + ")");
+        };
+        try (NBTReader reader = new NBTReader(input, CompressedProcesser.NONE)) {
+            return (NBTCompound) reader.read();
+        }
+    }
+
+    /**
+     * Writes a batch of chunks in a single pass.
+     * <p>
+     * New sectors are allocated for every chunk before the previous ones are released,
+     * so a failure in the middle of the batch leaves the previous data readable.
+     * If the same chunk appears multiple times, only its last entry is written.
+     *
+     * @param entries the encoded chunks, all belonging to this region
+     */
+    void write(@NotNull List<@NotNull Entry> entries) throws IOException {
+        if (entries.isEmpty()) return;
+        lock.writeLock().lock();
+        try {
+            // Allocate, starting from the end so that the last entry of a chunk wins
+            BitSet written = new BitSet(CHUNK_COUNT);
+            BitSet allocated = new BitSet();
+            BitSet released = new BitSet();
+            List<Allocation> allocations = new ArrayList<>(entries.size());
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                final Entry entry = entries.get(i);
+                final int index = index(entry.chunkX(), entry.chunkZ());
+                if (written.get(index)) continue;
+                written.set(index);
+                final int previous = header.getInt(index * 4);
+                if (previous != 0) {
+                    final int offset = previous >>> 8;
+                    released.set(offset, offset + (previous & 0xFF));
+                }
+                final int sectors = entry.data().remaining() / SECTOR_SIZE;
+                final int offset = allocate(sectors);
+                allocated.set(offset, offset + sectors);
+                allocations.add(new Allocation(index, offset, sectors, entry.data().duplicate()));
+            }
+            // Write contiguous allocations together
+            allocations.sort(Comparator.comparingInt(Allocation::offset));
+            try {
+                int start = 0;
+                while (start < allocations.size()) {
+                    int end = start + 1;
+                    while (end < allocations.size()) {
+                        final Allocation last = allocations.get(end - 1);
+                        if (allocations.get(end).offset() != last.offset() + last.sectors()) break;
+                        end++;
+                    }
+                    ByteBuffer[] buffers = new ByteBuffer[end - start];
+                    long remaining = 0;
+                    for (int i = 0; i < buffers.length; i++) {
+                        buffers[i] = allocations.get(start + i).data();
+                        remaining += buffers[i].remaining();
+                    }
+                    channel.position((long) allocations.get(start).offset() * SECTOR_SIZE);
+                    while (remaining > 0) {
+                        remaining -= channel.write(buffers);
+                    }
+                    start = end;
+                }
+                // The header must never point to data which may not be on disk
+                channel.force(false);
+            } catch (IOException e) {
+                // The header still points to the previous data, the new sectors can be reused
+                this.usedSectors.andNot(allocated);
+                throw e;
+            }
+            // Update the header and release the previous sectors
+            final int timestamp = (int) (System.currentTimeMillis() / 1000L);
+            for (Allocation allocation : allocations) {
+                header.putInt(allocation.index() * 4, allocation.offset() << 8 | allocation.sectors());
+                header.putInt(CHUNK_COUNT * 4 + allocation.index() * 4, timestamp);
+                released.clear(allocation.offset(), allocation.offset() + allocation.sectors());
+            }
+            this.usedSectors.andNot(released);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            this.header.force();
+            this.channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int allocate(int sectors) {
+        int offset = usedSectors.nextClearBit(HEADER_SECTORS);
+        while (true) {
+            final int next = usedSectors.nextSetBit(offset);
+            if (next == -1 || next - offset >= sectors) break;
+            offset = usedSectors.nextClearBit(next);
+        }
+        this.usedSectors.set(offset, offset + sectors);
+        return offset;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position + buffer.position());
+            if (read == -1) throw new EOFException("Unexpected end of region file " + path);
+        }
+    }
+
+    private static int index(int chunkX, int chunkZ) {
+        return (chunkX & 31) + (chunkZ & 31) * 32;
+    }
+
+    record Entry(int chunkX, int chunkZ, @NotNull ByteBuffer data) {
+    }
+
+    private record Allocation(int index, int offset, int sectors, ByteBuffer data) {
+    }
+}
@@ -0,0 +1,153 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.block.BlockUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import static net.minestom.server.instance.Chunk.CHUNK_SECTION_SIZE;
+
+/**
+ * Block changes of an instance waiting to be sent to the chunk viewers.
+ * <p>
+ * Changes are grouped per chunk section and sent once per tick, as a {@link BlockChangePacket} for sections
+ * with a single change and as a {@link MultiBlockChangePacket} otherwise. Only the last change of each position is sent.
+ * Chunks with more changes than {@code minestom.block-changes.chunk-resend-threshold} are sent again entirely.
+ * <p>
+ * Thread-safe, changes can be queued from any thread.
+ */
+@ApiStatus.Internal
+public final class BlockChangeQueue {
+    private static final int CHUNK_RESEND_THRESHOLD = Integer.getInteger("minestom.block-changes.chunk-resend-threshold", 2048);
+
+    // Guarded by this
+    private Reference2ObjectOpenHashMap<Chunk, ChunkChanges> chunks = new Reference2ObjectOpenHashMap<>();
+
+    BlockChangeQueue() {
+    }
+
+    /**
+     * Queues a block change.
+     *
+     * @param chunk the chunk of the block
+     * @param x     the block x coordinate
+     * @param y     the block y coordinate
+     * @param z     the block z coordinate
+     * @param block the new block
+     */
+    public void blockChanged(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block) {
+        synchronized (this) {
+            chunks.computeIfAbsent(chunk, ChunkChanges::new).add(x, y, z, block);
+        }
+    }
+
+    /**
+     * Queues the chunk to be sent again entirely, replacing its pending block changes.
+     *
+     * @param chunk the modified chunk
+     */
+    public void chunkChanged(@NotNull Chunk chunk) {
+        synchronized (this) {
+            chunks.computeIfAbsent(chunk, ChunkChanges::new).resend();
+        }
+    }
+
+    /**
+     * Sends all the pending changes, called once per tick.
+     */
+    public void flush() {
+        final Reference2ObjectOpenHashMap<Chunk, ChunkChanges> chunks;
+        synchronized (this) {
+            chunks = this.chunks;
+            if (chunks.isEmpty()) return;
+            this.chunks = new Reference2ObjectOpenHashMap<>();
+        }
+        for (ChunkChanges changes : chunks.values()) changes.send();
+    }
+
+    /**
+     * Sends the pending changes of a single chunk, to be used when the changes cannot wait for the next tick.
+     *
+     * @param chunk the chunk to send the changes of
+     */
+    public void flush(@NotNull Chunk chunk) {
+        final ChunkChanges changes;
+        synchronized (this) {
+            changes = chunks.remove(chunk);
+        }
+        if (changes != null) changes.send();
+    }
+
+    private static final class ChunkChanges {
+        private final Chunk chunk;
+        // Section y -> block index in the section -> block, null if the whole chunk must be resent
+        private Int2ObjectOpenHashMap<Int2ObjectOpenHashMap<Block>> sections = new Int2ObjectOpenHashMap<>();
+        private int count;
+
+        ChunkChanges(Chunk chunk) {
+            this.chunk = chunk;
+        }
+
+        void add(int x, int y, int z, Block block) {
+            final var sections = this.sections;
+            if (sections == null) return;
+            final var section = sections.computeIfAbsent(ChunkUtils.getChunkCoordinate(y), s -> new Int2ObjectOpenHashMap<>());
+            final int index = ChunkUtils.toSectionRelativeCoordinate(x) << 8 |
+                    ChunkUtils.toSectionRelativeCoordinate(z) << 4 |
+                    ChunkUtils.toSectionRelativeCoordinate(y);
+            if (section.put(index, block) == null && ++count > CHUNK_RESEND_THRESHOLD) resend();
+        }
+
+        void resend() {
+            this.sections = null;
+        }
+
+        void send() {
+            if (!chunk.isLoaded() || chunk.getViewers().isEmpty()) return;
+            final var sections = this.sections;
+            if (sections == null) {
+                chunk.sendChunk();
+                return;
+            }
+            for (Int2ObjectMap.Entry<Int2ObjectOpenHashMap<Block>> entry : sections.int2ObjectEntrySet()) {
+                sendSection(entry.getIntKey(), entry.getValue());
+            }
+        }
+
+        private void sendSection(int sectionY, Int2ObjectOpenHashMap<Block> blocks) {
+            if (blocks.size() == 1) {
+                final var entry = blocks.int2ObjectEntrySet().iterator().next();
+                chunk.sendPacketToViewers(new BlockChangePacket(position(sectionY, entry.getIntKey()), entry.getValue().stateId()));
+            } else {
+                final long[] encoded = new long[blocks.size()];
+                int i = 0;
+                for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+                    encoded[i++] = (long) entry.getValue().stateId() << 12 | entry.getIntKey();
+                }
+                chunk.sendPacketToViewers(new MultiBlockChangePacket(chunk.getChunkX(), sectionY, chunk.getChunkZ(), encoded));
+            }
+            // Block entities must be sent after their block
+            for (Int2ObjectMap.Entry<Block> entry : blocks.int2ObjectEntrySet()) {
+                final Block block = entry.getValue();
+                final var registry = block.registry();
+                if (!registry.isBlockEntity()) continue;
+                chunk.sendPacketToViewers(new BlockEntityDataPacket(position(sectionY, entry.getIntKey()),
+                        registry.blockEntityId(), BlockUtils.extractClientNbt(block)));
+            }
+        }
+
+        private Vec position(int sectionY, int index) {
+            return new Vec(chunk.getChunkX() * CHUNK_SECTION_SIZE + (index >> 8),
+                    sectionY * CHUNK_SECTION_SIZE + (index & 0xF),
+                    chunk.getChunkZ() * CHUNK_SECTION_SIZE + ((index >> 4) & 0xF));
+        }
+    }
+}
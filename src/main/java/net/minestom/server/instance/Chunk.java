@@ -11,7 +11,9 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
 import net.minestom.server.snapshot.Snapshotable;
+import net.minestom.server.tag.Tag;
 import net.minestom.server.tag.TagHandler;
+import net.minestom.server.tag.TagReadable;
 import net.minestom.server.tag.Taggable;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
@@ -19,10 +21,16 @@ import net.minestom.server.world.biomes.Biome;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+import org.jglrxavpok.hephaistos.nbt.NBTCompoundLike;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 // TODO light data & API
 
@@ -42,6 +50,27 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     public static final int CHUNK_SIZE_Z = 16;
     public static final int CHUNK_SECTION_SIZE = 16;
 
+    /**
+     * Dirty flags, set when the chunk differs from its stored version.
+     *
+     * @see #markDirty(int)
+     */
+    public static final int DIRTY_BLOCKS = 1;
+    public static final int DIRTY_BIOMES = 1 << 1;
+    public static final int DIRTY_BLOCK_ENTITIES = 1 << 2;
+    public static final int DIRTY_TAGS = 1 << 3;
+    public static final int DIRTY_ALL = DIRTY_BLOCKS | DIRTY_BIOMES | DIRTY_BLOCK_ENTITIES | DIRTY_TAGS;
+
+    private static final VarHandle DIRTY;
+
+    static {
+        try {
+            DIRTY = MethodHandles.lookup().findVarHandle(Chunk.class, "dirty", int.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private final UUID identifier;
 
     protected Instance instance;
@@ -53,13 +82,15 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     private boolean readOnly;
 
     protected volatile boolean loaded = true;
+    @SuppressWarnings("unused") // Accessed using DIRTY
+    private volatile int dirty;
     private final Viewable viewable;
 
     // Path finding
     protected PFColumnarSpace columnarSpace;
 
     // Data
-    private final TagHandler tagHandler = TagHandler.newHandler();
+    private final TagHandler tagHandler = new DirtyTagHandler(TagHandler.newHandler());
 
     public Chunk(@NotNull Instance instance, int chunkX, int chunkZ, boolean shouldGenerate) {
         this.identifier = UUID.randomUUID();
@@ -279,6 +310,46 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         return loaded;
     }
 
+    /**
+     * Marks this chunk as modified since its last save.
+     * <p>
+     * Done automatically by block, biome and tag changes, but needs to be called
+     * when modifying the chunk data directly (e.g. through {@link Section} palettes).
+     *
+     * @param flags the changed data, a combination of the {@code DIRTY_*} constants
+     */
+    public void markDirty(int flags) {
+        DIRTY.getAndBitwiseOr(this, flags);
+    }
+
+    /**
+     * Gets the data modified since the last save.
+     *
+     * @return the dirty flags, 0 if the chunk does not need to be saved
+     */
+    public int getDirtyFlags() {
+        return dirty;
+    }
+
+    /**
+     * Gets if the chunk has been modified since its last save.
+     *
+     * @return true if the chunk needs to be saved
+     */
+    public boolean isDirty() {
+        return dirty != 0;
+    }
+
+    /**
+     * Clears the dirty flags, done before the chunk is saved.
+     *
+     * @return the flags before clearing, to be restored with {@link #markDirty(int)} if the save fails
+     */
+    @ApiStatus.Internal
+    public int clearDirty() {
+        return (int) DIRTY.getAndSet(this, 0);
+    }
+
     /**
      * Called when the chunk has been successfully loaded.
      */
@@ -315,4 +386,78 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     protected void unload() {
         this.loaded = false;
     }
+
+    /**
+     * Marks the chunk tags as dirty on every modification, including the ones made through {@link #tagHandler()}.
+     */
+    private final class DirtyTagHandler implements TagHandler {
+        private final TagHandler handler;
+
+        DirtyTagHandler(TagHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public <T> @UnknownNullability T getTag(@NotNull Tag<T> tag) {
+            return handler.getTag(tag);
+        }
+
+        @Override
+        public boolean hasTag(@NotNull Tag<?> tag) {
+            return handler.hasTag(tag);
+        }
+
+        @Override
+        public <T> void setTag(@NotNull Tag<T> tag, @Nullable T value) {
+            handler.setTag(tag, value);
+            markDirty(DIRTY_TAGS);
+        }
+
+        @Override
+        public void removeTag(@NotNull Tag<?> tag) {
+            handler.removeTag(tag);
+            markDirty(DIRTY_TAGS);
+        }
+
+        @Override
+        public <T> void updateTag(@NotNull Tag<T> tag, @NotNull UnaryOperator<@UnknownNullability T> value) {
+            handler.updateTag(tag, value);
+            markDirty(DIRTY_TAGS);
+        }
+
+        @Override
+        public <T> @UnknownNullability T updateAndGetTag(@NotNull Tag<T> tag, @NotNull UnaryOperator<@UnknownNullability T> value) {
+            final T result = handler.updateAndGetTag(tag, value);
+            markDirty(DIRTY_TAGS);
+            return result;
+        }
+
+        @Override
+        public <T> @UnknownNullability T getAndUpdateTag(@NotNull Tag<T> tag, @NotNull UnaryOperator<@UnknownNullability T> value) {
+            final T result = handler.getAndUpdateTag(tag, value);
+            markDirty(DIRTY_TAGS);
+            return result;
+        }
+
+        @Override
+        public void updateContent(@NotNull NBTCompoundLike compound) {
+            handler.updateContent(compound);
+            markDirty(DIRTY_TAGS);
+        }
+
+        @Override
+        public @NotNull TagReadable readableCopy() {
+            return handler.readableCopy();
+        }
+
+        @Override
+        public @NotNull TagHandler copy() {
+            return handler.copy();
+        }
+
+        @Override
+        public @NotNull NBTCompound asCompound() {
+            return handler.asCompound();
+        }
+    }
 }
\ No newline at end of file
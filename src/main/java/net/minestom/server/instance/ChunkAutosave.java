@@ -0,0 +1,70 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.utils.async.AsyncUtils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Spreads the saving of dirty chunks across ticks.
+ * <p>
+ * Every interval, the dirty chunks of the instance are queued and then saved in batches, one batch at a time.
+ * The batch size adapts to the last measured save time so that each batch takes about the configured budget,
+ * and is capped by the maximum number of chunks per batch.
+ */
+final class ChunkAutosave {
+    private final InstanceContainer instance;
+    private final long interval;
+    private final long budget;
+    private final int maxChunks;
+
+    private final ArrayDeque<Chunk> pending = new ArrayDeque<>();
+    private CompletableFuture<Void> inFlight = AsyncUtils.VOID_FUTURE;
+    private long nextPass;
+    private volatile int batchSize = 1;
+
+    ChunkAutosave(InstanceContainer instance, Duration interval, int maxChunks, Duration budget) {
+        this.instance = instance;
+        this.interval = interval.toNanos();
+        this.budget = budget.toNanos();
+        this.maxChunks = maxChunks;
+        this.nextPass = System.nanoTime() + this.interval;
+    }
+
+    void tick() {
+        if (!inFlight.isDone()) return;
+        final long now = System.nanoTime();
+        if (pending.isEmpty()) {
+            if (now - nextPass < 0) return;
+            this.nextPass = now + interval;
+            for (Chunk chunk : instance.getChunks()) {
+                if (chunk.isDirty()) pending.add(chunk);
+            }
+        }
+        final int batchSize = this.batchSize;
+        List<Chunk> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        while (batch.size() < batchSize) {
+            final Chunk chunk = pending.poll();
+            if (chunk == null) break;
+            // May have been unloaded or saved since the pass started
+            if (chunk.isLoaded() && chunk.isDirty()) batch.add(chunk);
+        }
+        if (batch.isEmpty()) return;
+        final int size = batch.size();
+        this.inFlight = instance.saveChunks(batch)
+                .whenComplete((unused, throwable) -> {
+                    // The chunks stay dirty and are saved again on the next pass
+                    if (throwable != null) MinecraftServer.getExceptionManager().handleException(throwable);
+                    adapt(size, System.nanoTime() - now);
+                });
+    }
+
+    private void adapt(int size, long elapsed) {
+        final long perChunk = Math.max(1, elapsed / size);
+        this.batchSize = (int) Math.max(1, Math.min(maxChunks, budget / perChunk));
+    }
+}
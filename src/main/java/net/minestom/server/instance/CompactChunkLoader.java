@@ -0,0 +1,389 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.NamespaceID;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import net.minestom.server.world.biomes.Biome;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+/**
+ * A {@link IChunkLoader} storing a whole world in a single compact binary file.
+ * <p>
+ * Sections are stored as their raw palette data (bits per entry, palette and packed longs)
+ * and restored in bulk using {@link Palette#fill(int)} and {@link Palette#setAll(Palette.EntrySupplier)},
+ * skipping the block conversion done by {@link AnvilLoader}.
+ * Block state ids are not remapped, a file can only be read by a server running the same protocol version.
+ * Biomes are stored by id along with their names, and remapped on load if the registry changed.
+ * <p>
+ * The file is read once when first needed and entirely rewritten on save, this loader is meant for
+ * maps saved as a whole using {@link InstanceContainer#saveChunksToStorage()} (e.g. minigame arenas).
+ * Block entities are only saved for {@link DynamicChunk} implementations.
+ */
+public class CompactChunkLoader implements IChunkLoader {
+    private static final int MAGIC = 0x4D53434C; // MSCL
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte[] EMPTY_LIGHT = new byte[0];
+
+    public enum Compression {
+        NONE, DEFLATE
+    }
+
+    private final Path path;
+    private final Compression compression;
+
+    // chunk index -> encoded chunk, null until the file has been read
+    private Long2ObjectMap<byte[]> chunks;
+    private NBTCompound instanceData;
+
+    public CompactChunkLoader(@NotNull Path path, @NotNull Compression compression) {
+        this.path = path;
+        this.compression = compression;
+    }
+
+    public CompactChunkLoader(@NotNull Path path) {
+        this(path, Compression.DEFLATE);
+    }
+
+    @Override
+    public void loadInstance(@NotNull Instance instance) {
+        final NBTCompound data;
+        try {
+            synchronized (this) {
+                readFile();
+                data = instanceData;
+            }
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return;
+        }
+        if (data != null) instance.tagHandler().updateContent(data);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+        try {
+            final byte[] data;
+            synchronized (this) {
+                data = readFile().get(ChunkUtils.getChunkIndex(chunkX, chunkZ));
+            }
+            if (data == null) return CompletableFuture.completedFuture(null);
+            Chunk chunk = instance.getChunkSupplier().createChunk(instance, chunkX, chunkZ);
+            decodeChunk(chunk, data);
+            return CompletableFuture.completedFuture(chunk);
+        } catch (Exception e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> saveInstance(@NotNull Instance instance) {
+        final NBTCompound data = instance.tagHandler().asCompound();
+        try {
+            synchronized (this) {
+                readFile();
+                this.instanceData = data;
+                writeFile();
+            }
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return AsyncUtils.VOID_FUTURE;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+        return saveChunks(List.of(chunk));
+    }
+
+    /**
+     * Encodes the chunks and rewrites the file once.
+     *
+     * @param chunks the chunks to save
+     * @return a completed future, completed exceptionally if the file could not be written
+     */
+    @Override
+    public @NotNull CompletableFuture<Void> saveChunks(@NotNull Collection<Chunk> chunks) {
+        if (chunks.isEmpty()) return AsyncUtils.VOID_FUTURE;
+        List<byte[]> encoded = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            encoded.add(encodeChunk(chunk));
+        }
+        try {
+            synchronized (this) {
+                final Long2ObjectMap<byte[]> stored = readFile();
+                int i = 0;
+                for (Chunk chunk : chunks) {
+                    stored.put(ChunkUtils.getChunkIndex(chunk), encoded.get(i++));
+                }
+                writeFile();
+            }
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return AsyncUtils.VOID_FUTURE;
+    }
+
+    @Override
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
+    private Long2ObjectMap<byte[]> readFile() throws IOException {
+        Long2ObjectMap<byte[]> chunks = this.chunks;
+        if (chunks != null) return chunks;
+        chunks = new Long2ObjectOpenHashMap<>();
+        if (Files.exists(path)) {
+            final byte[] file = Files.readAllBytes(path);
+            NetworkBuffer header = wrap(file);
+            if (header.read(INT) != MAGIC) throw new IOException("Not a compact chunk file: " + path);
+            final byte version = header.read(BYTE);
+            if (version != FORMAT_VERSION) throw new IOException("Unsupported format version " + version + ": " + path);
+            final int protocol = header.read(INT);
+            if (protocol != MinecraftServer.PROTOCOL_VERSION) {
+                throw new IOException("File " + path + " has been saved with protocol " + protocol +
+                        ", block states cannot be read by " + MinecraftServer.PROTOCOL_VERSION);
+            }
+            final Compression compression = header.readEnum(Compression.class);
+            final int length = header.read(VAR_INT);
+            final byte[] payload = switch (compression) {
+                case NONE -> header.readBytes(length);
+                case DEFLATE -> inflate(file, header.readIndex(), length);
+            };
+
+            NetworkBuffer buffer = wrap(payload);
+            this.instanceData = buffer.readOptional(NetworkBuffer.NBT) instanceof NBTCompound compound ? compound : null;
+            final int count = buffer.read(VAR_INT);
+            for (int i = 0; i < count; i++) {
+                final int chunkX = buffer.read(INT);
+                final int chunkZ = buffer.read(INT);
+                chunks.put(ChunkUtils.getChunkIndex(chunkX, chunkZ), buffer.read(BYTE_ARRAY));
+            }
+        }
+        this.chunks = chunks;
+        return chunks;
+    }
+
+    private void writeFile() throws IOException {
+        final Long2ObjectMap<byte[]> chunks = this.chunks;
+        final byte[] payload = NetworkBuffer.makeArray(buffer -> {
+            buffer.writeOptional(NetworkBuffer.NBT, instanceData);
+            buffer.write(VAR_INT, chunks.size());
+            for (Long2ObjectMap.Entry<byte[]> entry : chunks.long2ObjectEntrySet()) {
+                final long index = entry.getLongKey();
+                buffer.write(INT, ChunkUtils.getChunkCoordX(index));
+                buffer.write(INT, ChunkUtils.getChunkCoordZ(index));
+                buffer.write(BYTE_ARRAY, entry.getValue());
+            }
+        });
+        final byte[] header = NetworkBuffer.makeArray(buffer -> {
+            buffer.write(INT, MAGIC);
+            buffer.write(BYTE, FORMAT_VERSION);
+            buffer.write(INT, MinecraftServer.PROTOCOL_VERSION);
+            buffer.writeEnum(Compression.class, compression);
+            buffer.write(VAR_INT, payload.length);
+        });
+
+        final Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        // Write to a temporary file first to never leave a truncated world behind
+        final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporary)) {
+            output.write(header);
+            if (compression == Compression.DEFLATE) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try {
+                    DeflaterOutputStream stream = new DeflaterOutputStream(output, deflater);
+                    stream.write(payload);
+                    stream.finish();
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                output.write(payload);
+            }
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static byte[] encodeChunk(Chunk chunk) {
+        synchronized (chunk) {
+            return NetworkBuffer.makeArray(buffer -> {
+                // Biomes used by the chunk, to remap palette ids if the registry changes
+                IntSet biomeIds = new IntOpenHashSet();
+                for (Section section : chunk.getSections()) {
+                    section.biomePalette().getAll((x, y, z, id) -> biomeIds.add(id));
+                }
+                buffer.write(VAR_INT, biomeIds.size());
+                for (int id : biomeIds) {
+                    final Biome biome = MinecraftServer.getBiomeManager().getById(id);
+                    buffer.write(VAR_INT, id);
+                    buffer.write(STRING, (biome != null ? biome : Biome.PLAINS).name().asString());
+                }
+                // Sections
+                final List<Section> sections = chunk.getSections();
+                buffer.write(VAR_INT, sections.size());
+                for (Section section : sections) {
+                    buffer.write(section.blockPalette());
+                    buffer.write(section.biomePalette());
+                    buffer.write(BYTE_ARRAY, lightArray(section.skyLight().array()));
+                    buffer.write(BYTE_ARRAY, lightArray(section.blockLight().array()));
+                }
+                // Block entities
+                final Int2ObjectMap<Block> entries = chunk instanceof DynamicChunk dynamicChunk ?
+                        dynamicChunk.entries : Int2ObjectMaps.emptyMap();
+                buffer.write(VAR_INT, entries.size());
+                for (Int2ObjectMap.Entry<Block> entry : entries.int2ObjectEntrySet()) {
+                    final Block block = entry.getValue();
+                    final BlockHandler handler = block.handler();
+                    buffer.write(VAR_INT, entry.getIntKey());
+                    buffer.writeOptional(STRING, handler != null ? handler.getNamespaceId().asString() : null);
+                    buffer.writeOptional(NetworkBuffer.NBT, block.nbt());
+                }
+                // Tags
+                buffer.write(NetworkBuffer.NBT, chunk.tagHandler().asCompound());
+            });
+        }
+    }
+
+    private static void decodeChunk(Chunk chunk, byte[] data) {
+        NetworkBuffer buffer = wrap(data);
+        Int2IntMap biomeRemap = null;
+        final int biomeCount = buffer.read(VAR_INT);
+        for (int i = 0; i < biomeCount; i++) {
+            final int id = buffer.read(VAR_INT);
+            final Biome biome = MinecraftServer.getBiomeManager().getByName(NamespaceID.from(buffer.read(STRING)));
+            final int currentId = (biome != null ? biome : Biome.PLAINS).id();
+            if (currentId != id) {
+                if (biomeRemap == null) biomeRemap = new Int2IntOpenHashMap();
+                biomeRemap.put(id, currentId);
+            }
+        }
+        synchronized (chunk) {
+            final List<Section> sections = chunk.getSections();
+            final int sectionCount = buffer.read(VAR_INT);
+            if (sectionCount != sections.size()) {
+                throw new IllegalStateException("Chunk " + chunk.getChunkX() + ", " + chunk.getChunkZ() + " has " +
+                        sectionCount + " sections, but the instance dimension requires " + sections.size());
+            }
+            for (Section section : sections) {
+                readPalette(buffer, section.blockPalette(), null);
+                readPalette(buffer, section.biomePalette(), biomeRemap);
+                final byte[] skyLight = buffer.read(BYTE_ARRAY);
+                if (skyLight.length > 0) section.setSkyLight(skyLight);
+                final byte[] blockLight = buffer.read(BYTE_ARRAY);
+                if (blockLight.length > 0) section.setBlockLight(blockLight);
+            }
+            final int blockEntityCount = buffer.read(VAR_INT);
+            for (int i = 0; i < blockEntityCount; i++) {
+                final int index = buffer.read(VAR_INT);
+                final String handlerId = buffer.readOptional(STRING);
+                final var nbt = buffer.readOptional(NetworkBuffer.NBT);
+                final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+                final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+                final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+                Block block = chunk.getBlock(x, y, z, Block.Getter.Condition.TYPE);
+                if (block == null) continue;
+                if (handlerId != null) block = block.withHandler(MinecraftServer.getBlockManager().getHandlerOrDummy(handlerId));
+                if (nbt instanceof NBTCompound compound) block = block.withNbt(compound);
+                chunk.setBlock(x, y, z, block);
+            }
+            if (buffer.read(NetworkBuffer.NBT) instanceof NBTCompound tags) {
+                chunk.tagHandler().updateContent(tags);
+            }
+        }
+    }
+
+    /**
+     * Reads a palette written by {@link Palette#write(NetworkBuffer)} and applies it in bulk.
+     */
+    private static void readPalette(NetworkBuffer buffer, Palette palette, @Nullable Int2IntMap remap) {
+        final byte bitsPerEntry = buffer.read(BYTE);
+        if (bitsPerEntry == 0) {
+            // Single value
+            final int value = buffer.read(VAR_INT);
+            buffer.read(LONG_ARRAY);
+            palette.fill(remap != null ? remap.getOrDefault(value, value) : value);
+            return;
+        }
+        final int[] ids = bitsPerEntry <= palette.maxBitsPerEntry() ? buffer.read(VAR_INT_ARRAY) : null;
+        final long[] values = buffer.read(LONG_ARRAY);
+        final int valuesPerLong = 64 / bitsPerEntry;
+        if (bitsPerEntry > 32 || (long) values.length * valuesPerLong < palette.maxSize()) {
+            throw new IllegalStateException("Invalid palette data (" + bitsPerEntry + " bits per entry, " + values.length + " longs)");
+        }
+        if (ids != null && remap != null) {
+            for (int i = 0; i < ids.length; i++) ids[i] = remap.getOrDefault(ids[i], ids[i]);
+        }
+        final int mask = (1 << bitsPerEntry) - 1;
+        final int dimension = palette.dimension();
+        palette.setAll((x, y, z) -> {
+            final int index = (y * dimension + z) * dimension + x;
+            final int entry = (int) (values[index / valuesPerLong] >> (index % valuesPerLong) * bitsPerEntry) & mask;
+            if (ids != null) return ids[entry];
+            return remap != null ? remap.getOrDefault(entry, entry) : entry;
+        });
+    }
+
+    private static byte[] lightArray(byte[] array) {
+        return array != null ? array : EMPTY_LIGHT;
+    }
+
+    private static NetworkBuffer wrap(byte[] bytes) {
+        NetworkBuffer buffer = new NetworkBuffer(ByteBuffer.wrap(bytes), false);
+        buffer.writeIndex(bytes.length);
+        return buffer;
+    }
+
+    private static byte[] inflate(byte[] input, int offset, int length) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, input.length - offset);
+            final byte[] output = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                final int count = inflater.inflate(output, read, length - read);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += count;
+            }
+            if (read != length) throw new IOException("Invalid payload length: expected " + length + ", got " + read);
+            return output;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted chunk file", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -21,7 +21,6 @@ import net.minestom.server.snapshot.ChunkSnapshot;
 import net.minestom.server.snapshot.SnapshotImpl;
 import net.minestom.server.snapshot.SnapshotUpdater;
 import net.minestom.server.utils.ArrayUtils;
-import net.minestom.server.utils.MathUtils;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import net.minestom.server.utils.validate.Check;
@@ -33,7 +32,9 @@ import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.SoftReference;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordinate;
 
@@ -45,6 +46,11 @@ import static net.minestom.server.utils.chunk.ChunkUtils.toSectionRelativeCoordi
 public class DynamicChunk extends Chunk {
     private static final Logger LOGGER = LoggerFactory.getLogger(DynamicChunk.class);
 
+    private static final LongAdder SECTION_HITS = new LongAdder();
+    private static final LongAdder SECTION_MISSES = new LongAdder();
+    private static final LongAdder REBUILDS = new LongAdder();
+    private static final LongAdder REBUILD_TIME = new LongAdder();
+
     protected List<Section> sections;
 
     // Key = ChunkUtils#getBlockIndex
@@ -54,6 +60,14 @@ public class DynamicChunk extends Chunk {
     private long lastChange;
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
 
+    final Heightmap motionBlocking = new Heightmap(this, Heightmap.MOTION_BLOCKING);
+    final Heightmap worldSurface = new Heightmap(this, Heightmap.WORLD_SURFACE);
+    // Encoded heightmaps, null if they changed since the last chunk packet
+    private NBTCompound heightmapsNBT;
+    // Encoded sections, an entry is null if the section changed since the last chunk packet
+    // Softly referenced like the packet cache, so that chunks which are not sent do not keep them
+    private SoftReference<byte[][]> sectionsData;
+
     public DynamicChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
         super(instance, chunkX, chunkZ, true);
         var sectionsTemp = new Section[maxSection - minSection];
@@ -74,6 +88,7 @@ public class DynamicChunk extends Chunk {
 
         this.lastChange = System.currentTimeMillis();
         this.chunkCache.invalidate();
+        invalidateSectionData(y);
 
         // Update pathfinder
         if (columnarSpace != null) {
@@ -88,16 +103,22 @@ public class DynamicChunk extends Chunk {
                 toSectionRelativeCoordinate(z),
                 block.stateId()
         );
+        if (motionBlocking.update(toSectionRelativeCoordinate(x), y, toSectionRelativeCoordinate(z), block) |
+                worldSurface.update(toSectionRelativeCoordinate(x), y, toSectionRelativeCoordinate(z), block)) {
+            this.heightmapsNBT = null;
+        }
 
         final int index = ChunkUtils.getBlockIndex(x, y, z);
         // Handler
         final BlockHandler handler = block.handler();
         final Block lastCachedBlock;
-        if (handler != null || block.hasNbt() || block.registry().isBlockEntity()) {
+        final boolean blockEntity = handler != null || block.hasNbt() || block.registry().isBlockEntity();
+        if (blockEntity) {
             lastCachedBlock = this.entries.put(index, block);
         } else {
             lastCachedBlock = this.entries.remove(index);
         }
+        markDirty(blockEntity || lastCachedBlock != null ? DIRTY_BLOCKS | DIRTY_BLOCK_ENTITIES : DIRTY_BLOCKS);
         // Block tick
         if (handler != null && handler.isTickable()) {
             this.tickableMap.put(index, block);
@@ -125,6 +146,8 @@ public class DynamicChunk extends Chunk {
     public void setBiome(int x, int y, int z, @NotNull Biome biome) {
         assertLock();
         this.chunkCache.invalidate();
+        invalidateSectionData(y);
+        markDirty(DIRTY_BIOMES);
         Section section = getSectionAt(y);
         section.biomePalette().set(
                 toSectionRelativeCoordinate(x) / 4,
@@ -207,35 +230,47 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        invalidateSections();
+    }
+
+    /**
+     * Invalidates the data derived from the sections, after blocks have been modified without
+     * {@link #setBlock(int, int, int, Block)}.
+     */
+    void invalidateSections() {
+        this.sectionsData = null;
+        this.chunkCache.invalidate();
+        invalidateHeightmaps();
+    }
+
+    private void invalidateSectionData(int y) {
+        final SoftReference<byte[][]> reference = this.sectionsData;
+        final byte[][] sectionsData = reference != null ? reference.get() : null;
+        if (sectionsData != null) sectionsData[ChunkUtils.getChunkCoordinate(y) - minSection] = null;
+    }
+
+    /**
+     * Recomputes the heightmaps from the sections, after blocks have been modified without {@link #setBlock(int, int, int, Block)}.
+     */
+    void invalidateHeightmaps() {
+        this.motionBlocking.invalidate();
+        this.worldSurface.invalidate();
+        this.heightmapsNBT = null;
     }
 
     private @NotNull ChunkDataPacket createChunkPacket() {
         final NBTCompound heightmapsNBT;
-        // TODO: don't hardcode heightmaps
-        // Heightmap
-        {
-            int dimensionHeight = getInstance().getDimensionType().getHeight();
-            int[] motionBlocking = new int[16 * 16];
-            int[] worldSurface = new int[16 * 16];
-            for (int x = 0; x < 16; x++) {
-                for (int z = 0; z < 16; z++) {
-                    motionBlocking[x + z * 16] = 0;
-                    worldSurface[x + z * 16] = dimensionHeight - 1;
-                }
-            }
-            final int bitsForHeight = MathUtils.bitsToRepresent(dimensionHeight);
-            heightmapsNBT = NBT.Compound(Map.of(
-                    "MOTION_BLOCKING", NBT.LongArray(encodeBlocks(motionBlocking, bitsForHeight)),
-                    "WORLD_SURFACE", NBT.LongArray(encodeBlocks(worldSurface, bitsForHeight))));
-        }
-        // Data
-
         final byte[] data;
         synchronized (this) {
-            data = ObjectPool.PACKET_POOL.use(buffer ->
-                    NetworkBuffer.makeArray(networkBuffer -> {
-                        for (Section section : sections) networkBuffer.write(section);
-                    }));
+            NBTCompound encoded = this.heightmapsNBT;
+            if (encoded == null) {
+                encoded = NBT.Compound(Map.of(
+                        "MOTION_BLOCKING", NBT.LongArray(motionBlocking.encode()),
+                        "WORLD_SURFACE", NBT.LongArray(worldSurface.encode())));
+                this.heightmapsNBT = encoded;
+            }
+            heightmapsNBT = encoded;
+            data = encodeSections();
         }
 
         if (this instanceof LightingChunk light) {
@@ -258,6 +293,82 @@ public class DynamicChunk extends Chunk {
         );
     }
 
+    /**
+     * Writes the sections of the chunk data packet, only encoding the sections modified since the last call
+     * (or all of them if the encoded sections have been collected).
+     */
+    private byte[] encodeSections() {
+        final long start = System.nanoTime();
+        final SoftReference<byte[][]> reference = this.sectionsData;
+        byte[][] sectionsData = reference != null ? reference.get() : null;
+        if (sectionsData == null) {
+            sectionsData = new byte[sections.size()][];
+            this.sectionsData = new SoftReference<>(sectionsData);
+        }
+        int misses = 0;
+        int length = 0;
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            // Missed sections are encoded back to back in a single pooled buffer
+            final NetworkBuffer networkBuffer = new NetworkBuffer(hold.get(), true);
+            for (int i = 0; i < sectionsData.length; i++) {
+                byte[] sectionData = sectionsData[i];
+                if (sectionData == null) {
+                    final int sectionStart = networkBuffer.writeIndex();
+                    networkBuffer.write(sections.get(i));
+                    final int sectionLength = networkBuffer.writeIndex() - sectionStart;
+                    sectionData = new byte[sectionLength];
+                    networkBuffer.copyTo(sectionStart, sectionData, 0, sectionLength);
+                    sectionsData[i] = sectionData;
+                    misses++;
+                }
+                length += sectionData.length;
+            }
+        }
+        final byte[] data = new byte[length];
+        int offset = 0;
+        for (byte[] sectionData : sectionsData) {
+            System.arraycopy(sectionData, 0, data, offset, sectionData.length);
+            offset += sectionData.length;
+        }
+        SECTION_HITS.add(sectionsData.length - misses);
+        SECTION_MISSES.add(misses);
+        REBUILDS.increment();
+        REBUILD_TIME.add(System.nanoTime() - start);
+        return data;
+    }
+
+    /**
+     * Gets the statistics of the chunk data packet builds.
+     * <p>
+     * The counters are static: they are shared by all the dynamic chunks of the JVM, across instances
+     * and server processes, and are never reset. Compare two snapshots to measure a period.
+     *
+     * @return the chunk packet metrics
+     */
+    public static @NotNull PacketMetrics packetMetrics() {
+        return new PacketMetrics(SECTION_HITS.sum(), SECTION_MISSES.sum(), REBUILDS.sum(), REBUILD_TIME.sum());
+    }
+
+    /**
+     * Statistics of the chunk data packet builds.
+     *
+     * @param sectionHits      the number of sections reused from a previous build
+     * @param sectionMisses    the number of sections encoded again
+     * @param rebuilds         the number of chunk data packets built
+     * @param rebuildTimeNanos the total time spent writing the sections of the packets, in nanoseconds
+     */
+    public record PacketMetrics(long sectionHits, long sectionMisses, long rebuilds, long rebuildTimeNanos) {
+        /**
+         * Gets the ratio of sections reused from a previous build.
+         *
+         * @return the hit rate between 0 and 1, or 0 if no section has been written
+         */
+        public double hitRate() {
+            final long total = sectionHits + sectionMisses;
+            return total == 0 ? 0 : (double) sectionHits / total;
+        }
+    }
+
     @NotNull UpdateLightPacket createLightPacket() {
         return new UpdateLightPacket(chunkX, chunkZ, createLightData(false));
     }
@@ -346,7 +457,7 @@ public class DynamicChunk extends Chunk {
             70409299, 70409299, 0, 69273666, 69273666, 0, 68174084, 68174084, 0, Integer.MIN_VALUE,
             0, 5};
 
-    private static long[] encodeBlocks(int[] blocks, int bitsPerEntry) {
+    static long[] encodeBlocks(int[] blocks, int bitsPerEntry) {
         final long maxEntryValue = (1L << bitsPerEntry) - 1;
         final char valuesPerLong = (char) (64 / bitsPerEntry);
         final int magicIndex = 3 * (valuesPerLong - 1);
@@ -0,0 +1,214 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import space.vectrix.flare.fastutil.Int2ObjectSyncMap;
+import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Spatial hash of entity positions using cubic cells, used by {@link EntityTrackerImpl} for range queries.
+ * <p>
+ * Each cell stores its entities and their coordinates inline in arrays, so that distance checks
+ * do not need any map lookup. Cells are written under a lock, and read optimistically.
+ */
+final class EntityGrid {
+    // Maximum number of cells visited by a query, larger queries should be answered per chunk
+    private static final int MAX_QUERY_CELLS = 512;
+
+    private final double cellSize;
+    private final Long2ObjectSyncMap<Cell> cells = Long2ObjectSyncMap.hashmap();
+    private final Int2ObjectSyncMap<Cell> entityCells = Int2ObjectSyncMap.hashmap();
+
+    EntityGrid(int cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    void add(Entity entity, Point point) {
+        final double x = point.x(), y = point.y(), z = point.z();
+        final long key = cellKey(cell(x), cell(y), cell(z));
+        while (true) {
+            final Cell cell = cells.computeIfAbsent(key, Cell::new);
+            if (cell.add(entity, x, y, z)) {
+                this.entityCells.put(entity.getEntityId(), cell);
+                return;
+            }
+            // Cell removed concurrently
+        }
+    }
+
+    void remove(Entity entity) {
+        final Cell cell = entityCells.remove(entity.getEntityId());
+        if (cell != null) removeFrom(cell, entity);
+    }
+
+    void move(Entity entity, Point point) {
+        final double x = point.x(), y = point.y(), z = point.z();
+        final Cell cell = entityCells.get(entity.getEntityId());
+        if (cell == null) return;
+        if (cell.key == cellKey(cell(x), cell(y), cell(z)) && cell.update(entity, x, y, z)) return;
+        removeFrom(cell, entity);
+        add(entity, point);
+    }
+
+    /**
+     * Finds the entities within {@code range} of {@code point}.
+     *
+     * @return false if the range covers too many cells, in which case nothing is queried
+     */
+    @SuppressWarnings("unchecked")
+    <T extends Entity> boolean nearbyEntities(Point point, double range, Consumer<T> query) {
+        final double x = point.x(), y = point.y(), z = point.z();
+        final int minX = cell(x - range), maxX = cell(x + range);
+        final int minY = cell(y - range), maxY = cell(y + range);
+        final int minZ = cell(z - range), maxZ = cell(z + range);
+        final long cellCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        if (cellCount > MAX_QUERY_CELLS) return false;
+        final double squaredRange = range * range;
+        // Collected first to not call the consumer while reading a cell
+        List<Entity> result = null;
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    final Cell cell = cells.get(cellKey(cx, cy, cz));
+                    if (cell == null) continue;
+                    if (result == null) result = new ArrayList<>();
+                    cell.collect(x, y, z, squaredRange, result);
+                }
+            }
+        }
+        if (result != null) {
+            for (Entity entity : result) query.accept((T) entity);
+        }
+        return true;
+    }
+
+    private void removeFrom(Cell cell, Entity entity) {
+        if (cell.remove(entity)) this.cells.remove(cell.key, cell);
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long cellKey(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (y & 0xFFF) << 26) | (z & 0x3FFFFFF);
+    }
+
+    private static final class Cell {
+        private final long key;
+        private final StampedLock lock = new StampedLock();
+        private Entity[] entities = new Entity[4];
+        // x, y, z of each entity
+        private double[] positions = new double[12];
+        private int size;
+        // Empty cells are removed from the grid and must not be reused
+        private boolean removed;
+
+        Cell(long key) {
+            this.key = key;
+        }
+
+        boolean add(Entity entity, double x, double y, double z) {
+            final long stamp = lock.writeLock();
+            try {
+                if (removed) return false;
+                final int size = this.size;
+                if (size == entities.length) {
+                    this.entities = Arrays.copyOf(entities, size * 2);
+                    this.positions = Arrays.copyOf(positions, size * 6);
+                }
+                this.entities[size] = entity;
+                final int offset = size * 3;
+                this.positions[offset] = x;
+                this.positions[offset + 1] = y;
+                this.positions[offset + 2] = z;
+                this.size = size + 1;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean update(Entity entity, double x, double y, double z) {
+            final long stamp = lock.writeLock();
+            try {
+                final int index = indexOf(entity);
+                if (index == -1) return false;
+                final int offset = index * 3;
+                this.positions[offset] = x;
+                this.positions[offset + 1] = y;
+                this.positions[offset + 2] = z;
+                return true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * @return true if the cell is now empty and has been marked as removed
+         */
+        boolean remove(Entity entity) {
+            final long stamp = lock.writeLock();
+            try {
+                final int index = indexOf(entity);
+                if (index == -1) return false;
+                final int last = --this.size;
+                this.entities[index] = entities[last];
+                this.entities[last] = null;
+                System.arraycopy(positions, last * 3, positions, index * 3, 3);
+                if (last == 0) this.removed = true;
+                return last == 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void collect(double x, double y, double z, double squaredRange, List<Entity> result) {
+            final int start = result.size();
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                scan(x, y, z, squaredRange, result);
+                if (lock.validate(stamp)) return;
+                // Concurrent write, retry under the lock
+                result.subList(start, result.size()).clear();
+            }
+            stamp = lock.readLock();
+            try {
+                scan(x, y, z, squaredRange, result);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private void scan(double x, double y, double z, double squaredRange, List<Entity> result) {
+            final Entity[] entities = this.entities;
+            final double[] positions = this.positions;
+            // Fields may be inconsistent during an optimistic read
+            final int size = Math.min(this.size, Math.min(entities.length, positions.length / 3));
+            for (int i = 0; i < size; i++) {
+                final int offset = i * 3;
+                final double dx = positions[offset] - x;
+                final double dy = positions[offset + 1] - y;
+                final double dz = positions[offset + 2] - z;
+                if (dx * dx + dy * dy + dz * dz <= squaredRange) {
+                    final Entity entity = entities[i];
+                    if (entity != null) result.add(entity);
+                }
+            }
+        }
+
+        private int indexOf(Entity entity) {
+            final Entity[] entities = this.entities;
+            for (int i = 0; i < size; i++) {
+                if (entities[i] == entity) return i;
+            }
+            return -1;
+        }
+    }
+}
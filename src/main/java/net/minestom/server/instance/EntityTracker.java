@@ -6,6 +6,7 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.ExperienceOrb;
 import net.minestom.server.entity.ItemEntity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -23,10 +24,31 @@ import java.util.function.Consumer;
  */
 @ApiStatus.Experimental
 public sealed interface EntityTracker permits EntityTrackerImpl {
+    /**
+     * Creates a new tracker, indexing entities in cells of {@code minestom.entity-tracker.cell-size} blocks
+     * (disabled by default).
+     *
+     * @return a new tracker
+     * @see #newTracker(int)
+     */
     static @NotNull EntityTracker newTracker() {
         return new EntityTrackerImpl();
     }
 
+    /**
+     * Creates a new tracker, additionally indexing entity positions in cubic cells of {@code cellSize} blocks.
+     * <p>
+     * The cells speed up {@link #nearbyEntities(Point, double, Target, Consumer)} in crowded chunks
+     * at the cost of some work on every move, small ranges benefit the most.
+     *
+     * @param cellSize the size of a cell in blocks, 0 to only index entities per chunk
+     * @return a new tracker
+     */
+    static @NotNull EntityTracker newTracker(int cellSize) {
+        Check.argCondition(cellSize < 0, "Cell size cannot be negative");
+        return new EntityTrackerImpl(cellSize);
+    }
+
     /**
      * Register an entity to be tracked.
      */
@@ -1,6 +1,8 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterators;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.Viewable;
 import net.minestom.server.coordinate.Point;
@@ -17,7 +19,6 @@ import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,11 +29,24 @@ import static net.minestom.server.utils.chunk.ChunkUtils.*;
 
 final class EntityTrackerImpl implements EntityTracker {
     static final AtomicInteger TARGET_COUNTER = new AtomicInteger();
+    static final int DEFAULT_CELL_SIZE = Integer.getInteger("minestom.entity-tracker.cell-size", 0);
 
     // Store all data associated to a Target
     // The array index is the Target enum ordinal
-    final TargetEntry<Entity>[] entries = EntityTracker.Target.TARGETS.stream().map((Function<Target<?>, TargetEntry>) TargetEntry::new).toArray(TargetEntry[]::new);
+    final TargetEntry<Entity>[] entries;
     private final Int2ObjectSyncMap<Point> entityPositions = Int2ObjectSyncMap.hashmap();
+    private final boolean hasGrid;
+
+    EntityTrackerImpl(int cellSize) {
+        this.hasGrid = cellSize > 0;
+        this.entries = EntityTracker.Target.TARGETS.stream()
+                .map((Function<Target<?>, TargetEntry>) target -> new TargetEntry<>(target, cellSize))
+                .toArray(TargetEntry[]::new);
+    }
+
+    EntityTrackerImpl() {
+        this(DEFAULT_CELL_SIZE);
+    }
 
     @Override
     public <T extends Entity> void register(@NotNull Entity entity, @NotNull Point point,
@@ -44,6 +58,7 @@ final class EntityTrackerImpl implements EntityTracker {
             if (entry.target.type().isInstance(entity)) {
                 entry.entities.add(entity);
                 entry.addToChunk(index, entity);
+                if (entry.grid != null) entry.grid.add(entity, point);
             }
         }
         if (update != null) {
@@ -65,6 +80,7 @@ final class EntityTrackerImpl implements EntityTracker {
             if (entry.target.type().isInstance(entity)) {
                 entry.entities.remove(entity);
                 entry.removeFromChunk(index, entity);
+                if (entry.grid != null) entry.grid.remove(entity);
             }
         }
         if (update != null) {
@@ -80,7 +96,13 @@ final class EntityTrackerImpl implements EntityTracker {
     public <T extends Entity> void move(@NotNull Entity entity, @NotNull Point newPoint,
                                         @NotNull Target<T> target, @Nullable Update<T> update) {
         Point oldPoint = entityPositions.put(entity.getEntityId(), newPoint);
-        if (oldPoint == null || oldPoint.sameChunk(newPoint)) return;
+        if (oldPoint == null) return;
+        if (hasGrid) {
+            for (TargetEntry<Entity> entry : entries) {
+                if (entry.target.type().isInstance(entity)) entry.grid.move(entity, newPoint);
+            }
+        }
+        if (oldPoint.sameChunk(newPoint)) return;
         final long oldIndex = getChunkIndex(oldPoint);
         final long newIndex = getChunkIndex(newPoint);
         for (TargetEntry<Entity> entry : entries) {
@@ -109,32 +131,31 @@ final class EntityTrackerImpl implements EntityTracker {
     public @Unmodifiable <T extends Entity> Collection<T> chunkEntities(int chunkX, int chunkZ, @NotNull Target<T> target) {
         final TargetEntry<Entity> entry = entries[target.ordinal()];
         //noinspection unchecked
-        var chunkEntities = (List<T>) entry.chunkEntities(getChunkIndex(chunkX, chunkZ));
-        return Collections.unmodifiableList(chunkEntities);
+        return (Collection<T>) entry.chunkEntities(getChunkIndex(chunkX, chunkZ));
     }
 
     @Override
     public <T extends Entity> void nearbyEntitiesByChunkRange(@NotNull Point point, int chunkRange, @NotNull Target<T> target, @NotNull Consumer<T> query) {
-        final Long2ObjectSyncMap<List<Entity>> entities = entries[target.ordinal()].chunkEntities;
+        final Long2ObjectSyncMap<ChunkBucket<Entity>> entities = entries[target.ordinal()].chunkEntities;
+        final Consumer<Entity> consumer = (Consumer<Entity>) query;
         if (chunkRange == 0) {
             // Single chunk
-            final var chunkEntities = (List<T>) entities.get(getChunkIndex(point));
-            if (chunkEntities != null && !chunkEntities.isEmpty()) {
-                chunkEntities.forEach(query);
-            }
+            final ChunkBucket<Entity> chunkEntities = entities.get(getChunkIndex(point));
+            if (chunkEntities != null) chunkEntities.forEach(consumer);
         } else {
             // Multiple chunks
             forChunksInRange(point, chunkRange, (chunkX, chunkZ) -> {
-                final var chunkEntities = (List<T>) entities.get(getChunkIndex(chunkX, chunkZ));
-                if (chunkEntities == null || chunkEntities.isEmpty()) return;
-                chunkEntities.forEach(query);
+                final ChunkBucket<Entity> chunkEntities = entities.get(getChunkIndex(chunkX, chunkZ));
+                if (chunkEntities != null) chunkEntities.forEach(consumer);
             });
         }
     }
 
     @Override
     public <T extends Entity> void nearbyEntities(@NotNull Point point, double range, @NotNull Target<T> target, @NotNull Consumer<T> query) {
-        final Long2ObjectSyncMap<List<Entity>> entities = entries[target.ordinal()].chunkEntities;
+        final TargetEntry<Entity> entry = entries[target.ordinal()];
+        if (entry.grid != null && entry.grid.nearbyEntities(point, range, query)) return;
+        final Long2ObjectSyncMap<ChunkBucket<Entity>> entities = entry.chunkEntities;
         final int minChunkX = ChunkUtils.getChunkCoordinate(point.x() - range);
         final int minChunkZ = ChunkUtils.getChunkCoordinate(point.z() - range);
         final int maxChunkX = ChunkUtils.getChunkCoordinate(point.x() + range);
@@ -142,23 +163,23 @@ final class EntityTrackerImpl implements EntityTracker {
         final double squaredRange = range * range;
         if (minChunkX == maxChunkX && minChunkZ == maxChunkZ) {
             // Single chunk
-            final var chunkEntities = (List<T>) entities.get(getChunkIndex(point));
-            if (chunkEntities != null && !chunkEntities.isEmpty()) {
+            final ChunkBucket<Entity> chunkEntities = entities.get(getChunkIndex(point));
+            if (chunkEntities != null) {
                 chunkEntities.forEach(entity -> {
                     final Point position = entityPositions.get(entity.getEntityId());
-                    if (point.distanceSquared(position) <= squaredRange) query.accept(entity);
+                    if (point.distanceSquared(position) <= squaredRange) query.accept((T) entity);
                 });
             }
         } else {
             // Multiple chunks
             final int chunkRange = (int) (range / Chunk.CHUNK_SECTION_SIZE) + 1;
             forChunksInRange(point, chunkRange, (chunkX, chunkZ) -> {
-                final var chunkEntities = (List<T>) entities.get(getChunkIndex(chunkX, chunkZ));
-                if (chunkEntities == null || chunkEntities.isEmpty()) return;
+                final ChunkBucket<Entity> chunkEntities = entities.get(getChunkIndex(chunkX, chunkZ));
+                if (chunkEntities == null) return;
                 chunkEntities.forEach(entity -> {
                     final Point position = entityPositions.get(entity.getEntityId());
                     if (point.distanceSquared(position) <= squaredRange) {
-                        query.accept(entity);
+                        query.accept((T) entity);
                     }
                 });
             });
@@ -183,14 +204,14 @@ final class EntityTrackerImpl implements EntityTracker {
         forDifferingChunksInRange(newPoint.chunkX(), newPoint.chunkZ(), oldPoint.chunkX(), oldPoint.chunkZ(),
                 MinecraftServer.getEntityViewDistance(), (chunkX, chunkZ) -> {
                     // Add
-                    final List<Entity> entities = entry.chunkEntities.get(getChunkIndex(chunkX, chunkZ));
-                    if (entities == null || entities.isEmpty()) return;
-                    for (Entity entity : entities) update.add((T) entity);
+                    final ChunkBucket<Entity> entities = entry.chunkEntities.get(getChunkIndex(chunkX, chunkZ));
+                    if (entities == null) return;
+                    for (Entity entity : entities.snapshot()) update.add((T) entity);
                 }, (chunkX, chunkZ) -> {
                     // Remove
-                    final List<Entity> entities = entry.chunkEntities.get(getChunkIndex(chunkX, chunkZ));
-                    if (entities == null || entities.isEmpty()) return;
-                    for (Entity entity : entities) update.remove((T) entity);
+                    final ChunkBucket<Entity> entities = entry.chunkEntities.get(getChunkIndex(chunkX, chunkZ));
+                    if (entities == null) return;
+                    for (Entity entity : entities.snapshot()) update.remove((T) entity);
                 });
     }
 
@@ -210,24 +231,102 @@ final class EntityTrackerImpl implements EntityTracker {
         private final Set<T> entities = ConcurrentHashMap.newKeySet(); // Thread-safe since exposed
         private final Set<T> entitiesView = Collections.unmodifiableSet(entities);
         // Chunk index -> entities inside it
-        final Long2ObjectSyncMap<List<T>> chunkEntities = Long2ObjectSyncMap.hashmap();
+        final Long2ObjectSyncMap<ChunkBucket<T>> chunkEntities = Long2ObjectSyncMap.hashmap();
         final Map<ChunkViewKey, ChunkView> viewers = new ConcurrentHashMap<>();
+        // Finer index for range queries, null if disabled
+        final EntityGrid grid;
 
-        TargetEntry(Target<T> target) {
+        TargetEntry(Target<T> target, int cellSize) {
             this.target = target;
+            this.grid = cellSize > 0 ? new EntityGrid(cellSize) : null;
         }
 
-        List<T> chunkEntities(long index) {
-            return chunkEntities.computeIfAbsent(index, i -> (List<T>) new CopyOnWriteArrayList());
+        ChunkBucket<T> chunkEntities(long index) {
+            return chunkEntities.computeIfAbsent(index, i -> new ChunkBucket<>());
         }
 
         void addToChunk(long index, T entity) {
-            chunkEntities(index).add(entity);
+            chunkEntities(index).insert(entity);
         }
 
         void removeFromChunk(long index, T entity) {
-            List<T> entities = chunkEntities.get(index);
-            if (entities != null) entities.remove(entity);
+            ChunkBucket<T> entities = chunkEntities.get(index);
+            if (entities != null) entities.delete(entity);
+        }
+    }
+
+    /**
+     * Entities of a single chunk.
+     * <p>
+     * Writes swap-remove from a backing array using an id to slot index, so crossing a chunk border does not copy
+     * the bucket. Readers iterate over an immutable array snapshot, only copied on the first read following a write.
+     * <p>
+     * The collection itself is an unmodifiable live view.
+     */
+    static final class ChunkBucket<T extends Entity> extends AbstractCollection<T> {
+        private static final Entity[] EMPTY = new Entity[0];
+
+        private final Int2IntOpenHashMap slots = new Int2IntOpenHashMap();
+        private Entity[] entities = EMPTY;
+        private int size;
+        private volatile Entity[] snapshot = EMPTY;
+
+        ChunkBucket() {
+            slots.defaultReturnValue(-1);
+        }
+
+        synchronized void insert(T entity) {
+            final int size = this.size;
+            if (slots.putIfAbsent(entity.getEntityId(), size) != -1) return;
+            if (size == entities.length) this.entities = Arrays.copyOf(entities, Math.max(4, size * 2));
+            this.entities[size] = entity;
+            this.size = size + 1;
+            this.snapshot = null;
+        }
+
+        synchronized void delete(T entity) {
+            final int slot = slots.remove(entity.getEntityId());
+            if (slot == -1) return;
+            final int last = --size;
+            if (slot != last) {
+                final Entity moved = entities[last];
+                this.entities[slot] = moved;
+                this.slots.put(moved.getEntityId(), slot);
+            }
+            this.entities[last] = null;
+            this.snapshot = null;
+        }
+
+        Entity[] snapshot() {
+            Entity[] snapshot = this.snapshot;
+            if (snapshot == null) {
+                synchronized (this) {
+                    snapshot = this.snapshot;
+                    if (snapshot == null) {
+                        this.snapshot = snapshot = size == 0 ? EMPTY : Arrays.copyOf(entities, size);
+                    }
+                }
+            }
+            return snapshot;
+        }
+
+        @Override
+        public @NotNull Iterator<T> iterator() {
+            //noinspection unchecked
+            return (Iterator<T>) ObjectIterators.wrap(snapshot());
+        }
+
+        @Override
+        public void forEach(Consumer<? super T> action) {
+            for (Entity entity : snapshot()) {
+                //noinspection unchecked
+                action.accept((T) entity);
+            }
+        }
+
+        @Override
+        public int size() {
+            return snapshot().length;
         }
     }
 
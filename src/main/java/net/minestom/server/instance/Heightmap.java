@@ -0,0 +1,110 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.MathUtils;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static net.minestom.server.instance.Chunk.CHUNK_SECTION_SIZE;
+
+/**
+ * Height of the highest block matching a condition in each column of a chunk.
+ * <p>
+ * Computed on first access by scanning the columns, then kept up to date by {@link #update(int, int, int, Block)}.
+ * A column is only scanned again when its highest matching block is replaced by one not matching.
+ * <p>
+ * Heights are stored as the number of blocks between the bottom of the world and the top of the highest matching block,
+ * 0 meaning that no block of the column matches. The condition must never match air, so that empty sections can be skipped.
+ * <p>
+ * Guarded by the chunk lock.
+ */
+final class Heightmap {
+    static final Predicate<Block> WORLD_SURFACE = block -> !block.isAir();
+    static final Predicate<Block> MOTION_BLOCKING = block -> block.isSolid() || block.isLiquid() ||
+            "true".equals(block.getProperty("waterlogged"));
+
+    private final DynamicChunk chunk;
+    private final Predicate<Block> condition;
+    private int[] heights;
+
+    Heightmap(DynamicChunk chunk, Predicate<Block> condition) {
+        this.chunk = chunk;
+        this.condition = condition;
+    }
+
+    /**
+     * Gets the heights of the chunk columns, indexed by {@code x | (z << 4)}.
+     *
+     * @return the heights, must not be modified
+     */
+    int[] heights() {
+        int[] heights = this.heights;
+        if (heights == null) {
+            heights = new int[CHUNK_SECTION_SIZE * CHUNK_SECTION_SIZE];
+            for (int z = 0; z < CHUNK_SECTION_SIZE; z++) {
+                for (int x = 0; x < CHUNK_SECTION_SIZE; x++) {
+                    heights[x | (z << 4)] = scan(x, z, chunk.maxSection * CHUNK_SECTION_SIZE - 1);
+                }
+            }
+            this.heights = heights;
+        }
+        return heights;
+    }
+
+    /**
+     * Updates the column after a block change.
+     *
+     * @param x     the block x coordinate in the chunk
+     * @param y     the block y coordinate
+     * @param z     the block z coordinate in the chunk
+     * @param block the new block
+     * @return true if the height of the column changed
+     */
+    boolean update(int x, int y, int z, Block block) {
+        final int[] heights = this.heights;
+        if (heights == null) return false;
+        final int index = x | (z << 4);
+        final int height = heights[index];
+        final int blockHeight = y - chunk.minSection * CHUNK_SECTION_SIZE + 1;
+        if (condition.test(block)) {
+            if (blockHeight <= height) return false;
+            heights[index] = blockHeight;
+            return true;
+        }
+        if (blockHeight != height) return false;
+        heights[index] = scan(x, z, y - 1);
+        return true;
+    }
+
+    /**
+     * Forces the heights to be computed again, to be called when blocks are modified without {@link #update(int, int, int, Block)}.
+     */
+    void invalidate() {
+        this.heights = null;
+    }
+
+    /**
+     * Encodes the heights in the format of the chunk data packet.
+     */
+    long[] encode() {
+        final int bits = MathUtils.bitsToRepresent(chunk.getInstance().getDimensionType().getHeight());
+        return DynamicChunk.encodeBlocks(heights(), bits);
+    }
+
+    private int scan(int x, int z, int fromY) {
+        final int minY = chunk.minSection * CHUNK_SECTION_SIZE;
+        int sectionY = Math.floorDiv(fromY, CHUNK_SECTION_SIZE);
+        int y = Math.floorMod(fromY, CHUNK_SECTION_SIZE);
+        for (; sectionY >= chunk.minSection; sectionY--, y = CHUNK_SECTION_SIZE - 1) {
+            final Palette palette = chunk.getSection(sectionY).blockPalette();
+            if (palette.count() == 0) continue;
+            for (; y >= 0; y--) {
+                final Block block = Objects.requireNonNullElse(Block.fromStateId((short) palette.get(x, y, z)), Block.AIR);
+                if (condition.test(block)) return sectionY * CHUNK_SECTION_SIZE + y - minY + 1;
+            }
+        }
+        return 0;
+    }
+}
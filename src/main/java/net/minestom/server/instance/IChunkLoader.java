@@ -1,15 +1,13 @@
 package net.minestom.server.instance;
 
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.utils.async.AsyncUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Interface implemented to change the way chunks are loaded/saved.
@@ -52,31 +50,35 @@ public interface IChunkLoader {
     /**
      * Saves multiple chunks with an optional callback for when it is done.
      * <p>
-     * Implementations need to check {@link #supportsParallelSaving()} to support the feature if possible.
+     * Implementations need to check {@link #supportsParallelSaving()} to support the feature if possible,
+     * parallel saves run on the chunk executor of the chunks instance.
      *
      * @param chunks the chunks to save
      * @return a {@link CompletableFuture} executed when the {@link Chunk} is done saving,
-     * should be called even if the saving failed (you can throw an exception).
+     * completed exceptionally if any of the chunks failed to be saved.
      */
     default @NotNull CompletableFuture<Void> saveChunks(@NotNull Collection<Chunk> chunks) {
+        if (chunks.isEmpty()) return AsyncUtils.VOID_FUTURE;
         if (supportsParallelSaving()) {
-            ExecutorService parallelSavingThreadPool = ForkJoinPool.commonPool();
-            chunks.forEach(c -> parallelSavingThreadPool.execute(() -> saveChunk(c)));
-            try {
-                parallelSavingThreadPool.shutdown();
-                parallelSavingThreadPool.awaitTermination(1L, java.util.concurrent.TimeUnit.DAYS);
-            } catch (InterruptedException e) {
-                MinecraftServer.getExceptionManager().handleException(e);
+            CompletableFuture<?>[] futures = new CompletableFuture[chunks.size()];
+            int i = 0;
+            for (Chunk chunk : chunks) {
+                futures[i++] = CompletableFuture.supplyAsync(() -> saveChunk(chunk), InstanceContainer.chunkExecutor(chunk))
+                        .thenCompose(future -> future);
             }
-            return AsyncUtils.VOID_FUTURE;
+            return CompletableFuture.allOf(futures);
         } else {
             CompletableFuture<Void> completableFuture = new CompletableFuture<>();
             AtomicInteger counter = new AtomicInteger();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
             for (Chunk chunk : chunks) {
                 saveChunk(chunk).whenComplete((unused, throwable) -> {
+                    if (throwable != null) failure.compareAndSet(null, throwable);
                     final boolean isLast = counter.incrementAndGet() == chunks.size();
                     if (isLast) {
-                        completableFuture.complete(null);
+                        final Throwable first = failure.get();
+                        if (first != null) completableFuture.completeExceptionally(first);
+                        else completableFuture.complete(null);
                     }
                 });
             }
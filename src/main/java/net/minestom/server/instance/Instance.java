@@ -85,7 +85,10 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     // Field for tick events
     private long lastTickAge = System.currentTimeMillis();
 
-    private final EntityTracker entityTracker = new EntityTrackerImpl();
+    private final EntityTracker entityTracker = EntityTracker.newTracker();
+    // Light of the LightingChunk instances
+    final LightEngine lightEngine = new LightEngine(this);
+    private final BlockChangeQueue blockChangeQueue = new BlockChangeQueue();
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
@@ -597,6 +600,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
     /**
      * Sends a {@link BlockActionPacket} for all the viewers of the specific position.
+     * <p>
+     * The pending block changes of the chunk are sent first, so that the action targets the current block.
      *
      * @param blockPosition the block position
      * @param actionId      the action id, depends on the block
@@ -607,6 +612,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         final Block block = getBlock(blockPosition);
         final Chunk chunk = getChunkAt(blockPosition);
         Check.notNull(chunk, "The chunk at {0} is not loaded!", blockPosition);
+        this.blockChangeQueue.flush(chunk);
         chunk.sendPacketToViewers(new BlockActionPacket(blockPosition, actionId, actionParam, block));
     }
 
@@ -636,6 +642,16 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return entityTracker;
     }
 
+    /**
+     * Gets the block changes waiting to be sent to the viewers of the chunks, flushed at the end of each tick.
+     *
+     * @return the block change queue of the instance
+     */
+    @ApiStatus.Internal
+    public @NotNull BlockChangeQueue getBlockChangeQueue() {
+        return blockChangeQueue;
+    }
+
     /**
      * Gets the instance unique id.
      *
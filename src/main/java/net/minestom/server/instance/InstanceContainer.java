@@ -7,6 +7,7 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.instance.InstanceChunkLoadEvent;
 import net.minestom.server.event.instance.InstanceChunkUnloadEvent;
 import net.minestom.server.event.player.PlayerBlockBreakEvent;
@@ -16,14 +17,13 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.block.rule.BlockPlacementRule;
 import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.palette.Palette;
-import net.minestom.server.network.packet.server.play.BlockChangePacket;
-import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
 import net.minestom.server.network.packet.server.play.EffectPacket;
 import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
+import net.minestom.server.thread.BoundedExecutor;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.PropertyUtils;
 import net.minestom.server.utils.async.AsyncUtils;
-import net.minestom.server.utils.block.BlockUtils;
 import net.minestom.server.utils.chunk.ChunkCache;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.utils.chunk.ChunkUtils;
@@ -32,16 +32,16 @@ import net.minestom.server.world.DimensionType;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import space.vectrix.flare.fastutil.Long2ObjectSyncMap;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -56,6 +56,12 @@ public class InstanceContainer extends Instance {
 
     private static final AnvilLoader DEFAULT_LOADER = new AnvilLoader("world");
 
+    private static final int CHUNK_EXECUTOR_CONCURRENCY = Integer.getInteger("minestom.chunk-executor.concurrency",
+            Runtime.getRuntime().availableProcessors() * 2);
+    private static final boolean CHUNK_EXECUTOR_VIRTUAL = PropertyUtils.getBoolean("minestom.chunk-executor.virtual", true);
+    private static final BoundedExecutor DEFAULT_CHUNK_EXECUTOR = BoundedExecutor.create("Ms-chunk",
+            CHUNK_EXECUTOR_CONCURRENCY, CHUNK_EXECUTOR_VIRTUAL);
+
     private static final BlockFace[] BLOCK_UPDATE_FACES = new BlockFace[]{
             BlockFace.WEST, BlockFace.EAST, BlockFace.NORTH, BlockFace.SOUTH, BlockFace.BOTTOM, BlockFace.TOP
     };
@@ -82,6 +88,12 @@ public class InstanceContainer extends Instance {
     // used to supply a new chunk object at a position when requested
     private ChunkSupplier chunkSupplier;
 
+    // used to load, generate and save chunks off the tick threads
+    private volatile Executor chunkExecutor = DEFAULT_CHUNK_EXECUTOR;
+
+    // saves dirty chunks in the background, null if disabled
+    private volatile ChunkAutosave autosave;
+
     // Fields for instance copy
     protected InstanceContainer srcInstance; // only present if this instance has been created using a copy
     private long lastBlockChangeTime; // Time at which the last block change happened (#setBlock)
@@ -181,14 +193,11 @@ public class InstanceContainer extends Instance {
                 executeNeighboursBlockPlacementRule(blockPosition, updateDistance);
             }
 
-            // Refresh player chunk block
-            {
-                chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
-                var registry = block.registry();
-                if (registry.isBlockEntity()) {
-                    final NBTCompound data = BlockUtils.extractClientNbt(block);
-                    chunk.sendPacketToViewers(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
-                }
+            // Refresh player chunk block, players expect their own changes before the acknowledgement
+            final BlockChangeQueue blockChangeQueue = getBlockChangeQueue();
+            blockChangeQueue.blockChanged(chunk, x, y, z, block);
+            if (placement instanceof BlockHandler.PlayerPlacement || destroy instanceof BlockHandler.PlayerDestroy) {
+                blockChangeQueue.flush(chunk);
             }
         }
     }
@@ -277,12 +286,90 @@ public class InstanceContainer extends Instance {
 
     @Override
     public @NotNull CompletableFuture<Void> saveChunkToStorage(@NotNull Chunk chunk) {
-        return chunkLoader.saveChunk(chunk);
+        final int flags = chunk.clearDirty();
+        CompletableFuture<Void> future;
+        try {
+            future = chunkLoader.saveChunk(chunk);
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+        return future.whenComplete((unused, throwable) -> {
+            if (throwable != null) chunk.markDirty(flags);
+        });
     }
 
     @Override
     public @NotNull CompletableFuture<Void> saveChunksToStorage() {
-        return chunkLoader.saveChunks(getChunks());
+        return saveChunks(List.copyOf(getChunks()));
+    }
+
+    /**
+     * Saves the chunks modified since they were loaded or last saved.
+     * <p>
+     * Chunks loaded from the {@link IChunkLoader} and left untouched are skipped,
+     * generated chunks are always considered dirty.
+     *
+     * @return a {@link CompletableFuture} called once the dirty chunks have been saved
+     * @see Chunk#markDirty(int)
+     */
+    public @NotNull CompletableFuture<Void> saveDirtyChunks() {
+        List<Chunk> dirtyChunks = new ArrayList<>();
+        for (Chunk chunk : getChunks()) {
+            if (chunk.isDirty()) dirtyChunks.add(chunk);
+        }
+        return saveChunks(dirtyChunks);
+    }
+
+    /**
+     * Enables the background saving of dirty chunks.
+     * <p>
+     * Every {@code interval}, the dirty chunks are saved in batches over the following ticks,
+     * with at most one batch being saved at a time. The batch size adapts so that saving a batch
+     * takes about {@code batchBudget}, and never exceeds {@code maxChunksPerBatch}.
+     *
+     * @param interval          the time between two autosave passes
+     * @param maxChunksPerBatch the maximum number of chunks saved per batch
+     * @param batchBudget       the targeted save time of a batch
+     */
+    @ApiStatus.Experimental
+    public void enableAutosave(@NotNull Duration interval, int maxChunksPerBatch, @NotNull Duration batchBudget) {
+        Check.argCondition(interval.isNegative() || interval.isZero(), "The autosave interval must be positive");
+        Check.argCondition(maxChunksPerBatch <= 0, "The autosave batch size must be positive");
+        this.autosave = new ChunkAutosave(this, interval, maxChunksPerBatch, batchBudget);
+    }
+
+    /**
+     * Disables the background saving of dirty chunks, a batch currently being saved is not interrupted.
+     */
+    @ApiStatus.Experimental
+    public void disableAutosave() {
+        this.autosave = null;
+    }
+
+    /**
+     * Saves chunks, clearing their dirty flags.
+     * <p>
+     * The flags of all the chunks are restored if the loader reports a failure, as it does not tell which chunks
+     * have been saved. Modifications made during the save are kept dirty either way.
+     */
+    @NotNull CompletableFuture<Void> saveChunks(@NotNull List<Chunk> chunks) {
+        if (chunks.isEmpty()) return AsyncUtils.VOID_FUTURE;
+        final int[] flags = new int[chunks.size()];
+        for (int i = 0; i < flags.length; i++) {
+            flags[i] = chunks.get(i).clearDirty();
+        }
+        CompletableFuture<Void> future;
+        try {
+            future = chunkLoader.saveChunks(chunks);
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+        return future.whenComplete((unused, throwable) -> {
+            if (throwable == null) return;
+            for (int i = 0; i < flags.length; i++) {
+                chunks.get(i).markDirty(flags[i]);
+            }
+        });
     }
 
     protected @NotNull CompletableFuture<@NotNull Chunk> retrieveChunk(int chunkX, int chunkZ) {
@@ -294,7 +381,8 @@ public class InstanceContainer extends Instance {
         final Runnable retriever = () -> loader.loadChunk(this, chunkX, chunkZ)
                 .thenCompose(chunk -> {
                     if (chunk != null) {
-                        // Chunk has been loaded from storage
+                        // Chunk has been loaded from storage, it is identical to the stored version
+                        chunk.clearDirty();
                         return CompletableFuture.completedFuture(chunk);
                     } else {
                         // Loader couldn't load the chunk, generate it
@@ -307,7 +395,8 @@ public class InstanceContainer extends Instance {
                     cacheChunk(chunk);
                     chunk.onLoad();
 
-                    EventDispatcher.call(new InstanceChunkLoadEvent(this, chunk));
+                    final ListenerHandle<InstanceChunkLoadEvent> handle = EventDispatcher.getHandle(InstanceChunkLoadEvent.class);
+                    if (handle.hasListener()) handle.call(new InstanceChunkLoadEvent(this, chunk));
                     final CompletableFuture<Chunk> future = this.loadingChunks.remove(index);
                     assert future == completableFuture : "Invalid future: " + future;
                     completableFuture.complete(chunk);
@@ -317,7 +406,7 @@ public class InstanceContainer extends Instance {
                     return null;
                 });
         if (loader.supportsParallelLoading()) {
-            CompletableFuture.runAsync(retriever);
+            this.chunkExecutor.execute(retriever);
         } else {
             retriever.run();
         }
@@ -329,11 +418,12 @@ public class InstanceContainer extends Instance {
     protected @NotNull CompletableFuture<@NotNull Chunk> createChunk(int chunkX, int chunkZ) {
         final Chunk chunk = chunkSupplier.createChunk(this, chunkX, chunkZ);
         Check.notNull(chunk, "Chunks supplied by a ChunkSupplier cannot be null.");
+        // Not present in storage
+        chunk.markDirty(Chunk.DIRTY_ALL);
         Generator generator = generator();
         if (generator != null && chunk.shouldGenerate()) {
             CompletableFuture<Chunk> resultFuture = new CompletableFuture<>();
-            // TODO: virtual thread once Loom is available
-            ForkJoinPool.commonPool().submit(() -> {
+            this.chunkExecutor.execute(() -> {
                 var chunkUnit = GeneratorImpl.chunk(chunk);
                 try {
                     // Generate block/biome palette
@@ -411,6 +501,8 @@ public class InstanceContainer extends Instance {
             Palette currentBlocks = section.blockPalette();
             // -1 is necessary because forked units handle explicit changes by changing AIR 0 to 1
             sectionModifier.blockPalette().getAllPresent((x, y, z, value) -> currentBlocks.set(x, y, z, value - 1));
+            chunk.markDirty(Chunk.DIRTY_BLOCKS);
+            if (chunk instanceof DynamicChunk dynamicChunk) dynamicChunk.invalidateSections();
             applyGenerationData(chunk, sectionModifier);
         }
     }
@@ -475,6 +567,45 @@ public class InstanceContainer extends Instance {
         return chunkSupplier;
     }
 
+    /**
+     * Changes the executor used to load chunks (if {@link IChunkLoader#supportsParallelLoading()})
+     * and to run the {@link Generator}.
+     * <p>
+     * Uses {@link #defaultChunkExecutor()} by default.
+     *
+     * @param chunkExecutor the new chunk executor
+     */
+    @ApiStatus.Experimental
+    public void setChunkExecutor(@NotNull Executor chunkExecutor) {
+        this.chunkExecutor = chunkExecutor;
+    }
+
+    @ApiStatus.Experimental
+    public @NotNull Executor getChunkExecutor() {
+        return chunkExecutor;
+    }
+
+    /**
+     * Gets the executor shared by all instances to load, generate and save chunks.
+     * <p>
+     * Uses virtual threads when available (can be disabled with {@code minestom.chunk-executor.virtual}),
+     * and runs at most {@code minestom.chunk-executor.concurrency} tasks at once.
+     *
+     * @return the default chunk executor
+     */
+    @ApiStatus.Experimental
+    public static @NotNull BoundedExecutor defaultChunkExecutor() {
+        return DEFAULT_CHUNK_EXECUTOR;
+    }
+
+    /**
+     * Gets the executor of the instance owning a chunk, used to save it.
+     */
+    static @NotNull Executor chunkExecutor(@NotNull Chunk chunk) {
+        return chunk.getInstance() instanceof InstanceContainer container ?
+                container.getChunkExecutor() : DEFAULT_CHUNK_EXECUTOR;
+    }
+
     /**
      * Gets all the {@link SharedInstance} linked to this container.
      *
@@ -522,6 +653,7 @@ public class InstanceContainer extends Instance {
             final int chunkX = chunk.getChunkX();
             final int chunkZ = chunk.getChunkZ();
             final Chunk copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+            copiedChunk.markDirty(Chunk.DIRTY_ALL);
             copiedInstance.cacheChunk(copiedChunk);
         }
         return copiedInstance;
@@ -599,6 +731,8 @@ public class InstanceContainer extends Instance {
     public void tick(long time) {
         // Time/world border
         super.tick(time);
+        final ChunkAutosave autosave = this.autosave;
+        if (autosave != null) autosave.tick();
         // Clear block change map
         Lock wrlock = this.changingBlockLock;
         wrlock.lock();
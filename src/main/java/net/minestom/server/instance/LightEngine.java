@@ -0,0 +1,360 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.light.Light;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.timer.ExecutionType;
+import net.minestom.server.timer.TaskSchedule;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.server.utils.chunk.ChunkUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Computes and sends the light of the {@link LightingChunk}s of an instance.
+ * <p>
+ * Sections are relit in waves, first their internal light and then the light propagated across section borders
+ * until no section changes. Each wave is computed in parallel on a pool shared by all instances and awaited
+ * with a future.
+ * <p>
+ * Chunks whose light must be resent are queued per instance, relit in batches and sent progressively by a single
+ * sender task. The sender visits the instances with pending work in turn, sending at most one viewed chunk per visit,
+ * so that an instance with a large backlog does not delay the others.
+ */
+final class LightEngine {
+    private static final int CHUNKS_PER_SEND = Integer.getInteger("minestom.lighting.chunks-per-send", 10);
+    private static final int CHUNKS_SEND_DELAY = Integer.getInteger("minestom.lighting.chunks-send-delay", 100);
+
+    private static final ExecutorService POOL = Executors.newWorkStealingPool();
+
+    // Engines with chunks to relight or send, in visit order
+    private static final Queue<LightEngine> PENDING = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean SENDER_STARTED = new AtomicBoolean();
+    private static final ReentrantLock SENDER_LOCK = new ReentrantLock();
+
+    private enum Step {SENT, WAITING, DONE}
+
+    private final Instance instance;
+    private final ReentrantLock relightLock = new ReentrantLock();
+
+    // Sections whose block light has been updated in place and must be propagated, guarded by itself
+    private final Set<Point> pendingUpdates = new HashSet<>();
+    private boolean updateScheduled;
+
+    // Send queue, guarded by this
+    private final LongSet queuedChunks = new LongOpenHashSet();
+    private final List<LightingChunk> queue = new ArrayList<>();
+    private final ArrayDeque<LightingChunk> ready = new ArrayDeque<>();
+    private CompletableFuture<Void> computing = AsyncUtils.VOID_FUTURE;
+    private boolean scheduled;
+
+    LightEngine(Instance instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Queues the chunk and its neighbours to have their light recomputed and sent.
+     */
+    void queueNeighbours(LightingChunk chunk) {
+        boolean schedule = false;
+        synchronized (this) {
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    if (!(instance.getChunk(chunk.chunkX + i, chunk.chunkZ + j) instanceof LightingChunk neighbour)) {
+                        continue;
+                    }
+                    if (queuedChunks.add(ChunkUtils.getChunkIndex(neighbour.chunkX, neighbour.chunkZ))) {
+                        queue.add(neighbour);
+                    }
+                }
+            }
+            if (!scheduled && !queue.isEmpty()) {
+                this.scheduled = true;
+                schedule = true;
+            }
+        }
+        if (schedule) PENDING.add(this);
+        if (!SENDER_STARTED.get() && SENDER_STARTED.compareAndSet(false, true)) {
+            MinecraftServer.getSchedulerManager().scheduleTask(LightEngine::sendPending,
+                    TaskSchedule.immediate(), TaskSchedule.millis(CHUNKS_SEND_DELAY), ExecutionType.ASYNC);
+        }
+    }
+
+    /**
+     * Invalidates and relights all the sections of the given chunks.
+     */
+    void relight(Collection<Chunk> chunks) {
+        Set<Point> sections = new HashSet<>();
+        for (Chunk chunk : chunks) {
+            if (chunk == null) continue;
+            for (int section = chunk.minSection; section < chunk.maxSection; section++) {
+                chunk.getSection(section).blockLight().invalidate();
+                chunk.getSection(section).skyLight().invalidate();
+                sections.add(new Vec(chunk.getChunkX(), section, chunk.getChunkZ()));
+            }
+        }
+        relightLock.lock();
+        try {
+            propagateUpdates();
+            propagate(sections, LightingChunk.LightType.BLOCK);
+            propagate(sections, LightingChunk.LightType.SKY);
+        } finally {
+            relightLock.unlock();
+        }
+    }
+
+    /**
+     * Relights the section and all the connected sections requiring an update.
+     */
+    void relightSection(int chunkX, int sectionY, int chunkZ, LightingChunk.LightType type) {
+        if (instance.getChunk(chunkX, chunkZ) == null) return;
+        relightLock.lock();
+        try {
+            propagateUpdates();
+            propagate(collectRequiredNearby(new Vec(chunkX, sectionY, chunkZ)), type);
+        } finally {
+            relightLock.unlock();
+        }
+    }
+
+    /**
+     * Incrementally updates the block light of the changed section, and queues its propagation to the neighbor sections.
+     * <p>
+     * Called with the chunk monitor held, which the relight waves may need: this never waits for a relight.
+     * The propagation runs asynchronously, or as part of the next relight if it starts first.
+     *
+     * @return false if the change could not be applied incrementally, in which case the sections must be invalidated
+     */
+    boolean updateBlock(LightingChunk chunk, int x, int y, int z) {
+        final int sectionY = ChunkUtils.getChunkCoordinate(y);
+        final Light light = chunk.getSection(sectionY).blockLight();
+        final int faces;
+        // Excludes the relight waves computing the same section
+        synchronized (light) {
+            faces = light.updateBlock(ChunkUtils.toSectionRelativeCoordinate(x),
+                    ChunkUtils.toSectionRelativeCoordinate(y), ChunkUtils.toSectionRelativeCoordinate(z));
+        }
+        if (faces == -1) return false;
+        final boolean schedule;
+        synchronized (pendingUpdates) {
+            // The section itself may now let more light in from its neighbors
+            pendingUpdates.add(new Vec(chunk.chunkX, sectionY, chunk.chunkZ));
+            final Point[] neighbors = Light.getNeighbors(chunk, sectionY);
+            for (int i = 0; i < neighbors.length; i++) {
+                if ((faces & (1 << i)) != 0 && neighbors[i] != null) pendingUpdates.add(neighbors[i]);
+            }
+            schedule = !updateScheduled;
+            this.updateScheduled = true;
+        }
+        if (schedule) {
+            POOL.execute(() -> {
+                relightLock.lock();
+                try {
+                    propagateUpdates();
+                } catch (Throwable t) {
+                    MinecraftServer.getExceptionManager().handleException(t);
+                } finally {
+                    relightLock.unlock();
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Propagates the block light of the sections updated in place, the relight lock must be held.
+     */
+    private void propagateUpdates() {
+        final Set<Point> sections;
+        synchronized (pendingUpdates) {
+            this.updateScheduled = false;
+            if (pendingUpdates.isEmpty()) return;
+            sections = new HashSet<>(pendingUpdates);
+            pendingUpdates.clear();
+        }
+        propagate(sections, LightingChunk.LightType.BLOCK, false);
+        // The packets may have been cached before the propagation completed
+        LongSet invalidated = new LongOpenHashSet();
+        for (Point section : sections) {
+            for (int i = -1; i <= 1; i++) {
+                for (int j = -1; j <= 1; j++) {
+                    final int chunkX = section.blockX() + i, chunkZ = section.blockZ() + j;
+                    if (!invalidated.add(ChunkUtils.getChunkIndex(chunkX, chunkZ))) continue;
+                    if (instance.getChunk(chunkX, chunkZ) instanceof LightingChunk neighbour) {
+                        neighbour.lightCache.invalidate();
+                        neighbour.chunkCache.invalidate();
+                    }
+                }
+            }
+        }
+    }
+
+    private void propagate(Set<Point> queue, LightingChunk.LightType type) {
+        propagate(queue, type, true);
+    }
+
+    private void propagate(Set<Point> queue, LightingChunk.LightType type, boolean internal) {
+        while (!queue.isEmpty()) {
+            final Set<Point> next = ConcurrentHashMap.newKeySet();
+            final boolean external = !internal;
+            List<CompletableFuture<Void>> wave = new ArrayList<>(queue.size());
+            for (Point point : queue) {
+                final Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
+                if (chunk == null) continue;
+                final Section section = chunk.getSection(point.blockY());
+                final Light light = type == LightingChunk.LightType.BLOCK ? section.blockLight() : section.skyLight();
+                wave.add(CompletableFuture.runAsync(() -> {
+                    final Set<Point> toAdd;
+                    if (type == LightingChunk.LightType.BLOCK) {
+                        // Block light may be updated in place by #updateBlock
+                        synchronized (light) {
+                            toAdd = calculate(light, chunk, point.blockY(), external);
+                        }
+                    } else {
+                        toAdd = calculate(light, chunk, point.blockY(), external);
+                    }
+                    if (toAdd != null) next.addAll(toAdd);
+                }, POOL));
+            }
+            try {
+                CompletableFuture.allOf(wave.toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException e) {
+                MinecraftServer.getExceptionManager().handleException(e.getCause());
+            }
+            queue = next;
+            internal = false;
+        }
+    }
+
+    private Set<Point> calculate(Light light, Chunk chunk, int sectionY, boolean external) {
+        if (external) light.calculateExternal(instance, chunk, sectionY);
+        else light.calculateInternal(instance, chunk.getChunkX(), sectionY, chunk.getChunkZ());
+        return light.flip();
+    }
+
+    private Set<Point> collectRequiredNearby(Point point) {
+        final Set<Point> found = new HashSet<>();
+        final ArrayDeque<Point> toCheck = new ArrayDeque<>();
+        toCheck.add(point);
+        found.add(point);
+        while (!toCheck.isEmpty()) {
+            final Point current = toCheck.poll();
+            for (Point nearby : getNearbyRequired(current)) {
+                if (found.add(nearby)) toCheck.add(nearby);
+            }
+        }
+        return found;
+    }
+
+    private List<Point> getNearbyRequired(Point point) {
+        List<Point> collected = new ArrayList<>();
+        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
+            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
+                final Chunk chunkCheck = instance.getChunk(x, z);
+                if (chunkCheck == null) continue;
+                for (int y = point.blockY() - 1; y <= point.blockY() + 1; y++) {
+                    if (y >= chunkCheck.getMaxSection() || y < chunkCheck.getMinSection()) continue;
+                    final Section s = chunkCheck.getSection(y);
+                    if (!s.blockLight().requiresUpdate() && !s.skyLight().requiresUpdate()) continue;
+                    collected.add(new Vec(x, y, z));
+                }
+            }
+        }
+        return collected;
+    }
+
+    private static void sendPending() {
+        // Repeating tasks may overlap if a run takes longer than the delay
+        if (!SENDER_LOCK.tryLock()) return;
+        try {
+            int budget = CHUNKS_PER_SEND;
+            int visits = PENDING.size();
+            while (budget > 0 && visits > 0) {
+                final LightEngine engine = PENDING.poll();
+                if (engine == null) break;
+                final Step step;
+                try {
+                    step = engine.step();
+                } catch (Exception e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                    PENDING.add(engine);
+                    visits--;
+                    continue;
+                }
+                switch (step) {
+                    case SENT -> {
+                        budget--;
+                        PENDING.add(engine);
+                        visits = PENDING.size();
+                    }
+                    case WAITING -> {
+                        PENDING.add(engine);
+                        visits--;
+                    }
+                    case DONE -> visits--;
+                }
+            }
+        } finally {
+            SENDER_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Sends the next relit chunk, or starts relighting the queued chunks.
+     * Only called by the sender task.
+     */
+    private Step step() {
+        LightingChunk chunk;
+        while ((chunk = pollReady()) != null) {
+            if (!chunk.isLoaded()) continue;
+            chunk.sendLighting();
+            if (!chunk.getViewers().isEmpty()) return Step.SENT;
+        }
+        final List<LightingChunk> batch;
+        synchronized (this) {
+            if (!computing.isDone()) return Step.WAITING;
+            if (!ready.isEmpty()) return Step.WAITING;
+            if (queue.isEmpty()) {
+                this.scheduled = false;
+                return Step.DONE;
+            }
+            batch = List.copyOf(queue);
+            queue.clear();
+            queuedChunks.clear();
+            this.computing = CompletableFuture.runAsync(() -> compute(batch), POOL)
+                    .whenComplete((unused, throwable) -> {
+                        if (throwable != null) MinecraftServer.getExceptionManager().handleException(throwable);
+                        synchronized (this) {
+                            ready.addAll(batch);
+                        }
+                    });
+        }
+        return Step.WAITING;
+    }
+
+    private synchronized LightingChunk pollReady() {
+        return ready.poll();
+    }
+
+    private static void compute(List<LightingChunk> batch) {
+        for (LightingChunk chunk : batch) {
+            chunk.sections.forEach(s -> {
+                s.blockLight().invalidate();
+                s.skyLight().invalidate();
+            });
+            chunk.chunkCache.invalidate();
+            chunk.lightCache.invalidate();
+        }
+        // Relight all the chunks before any is sent, the light of a chunk depends on its neighbours
+        for (LightingChunk chunk : batch) {
+            if (chunk.isLoaded()) chunk.lightCache.body(ConnectionState.PLAY);
+        }
+    }
+}
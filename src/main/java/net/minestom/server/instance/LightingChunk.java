@@ -1,42 +1,24 @@
 package net.minestom.server.instance;
 
-import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
-import it.unimi.dsi.fastutil.longs.LongSet;
-import net.minestom.server.MinecraftServer;
 import net.minestom.server.collision.Shape;
-import net.minestom.server.coordinate.Point;
-import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.block.BlockHandler;
-import net.minestom.server.instance.light.Light;
-import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.play.data.LightData;
-import net.minestom.server.timer.ExecutionType;
-import net.minestom.server.timer.Task;
-import net.minestom.server.timer.TaskSchedule;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.utils.chunk.ChunkUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
 
 import static net.minestom.server.instance.light.LightCompute.emptyContent;
 
 public class LightingChunk extends DynamicChunk {
 
-    private static final int LIGHTING_CHUNKS_PER_SEND = Integer.getInteger("minestom.lighting.chunks-per-send", 10);
-    private static final int LIGHTING_CHUNKS_SEND_DELAY = Integer.getInteger("minestom.lighting.chunks-send-delay", 100);
-
-    private static final ExecutorService pool = Executors.newWorkStealingPool();
-
+    // Highest block occluding the sky light of each column
+    private final Heightmap skyHeightmap = new Heightmap(this, LightingChunk::checkSkyOcclusion);
     private int[] heightmap;
     final CachedPacket lightCache = new CachedPacket(this::createLightPacket);
     boolean sendNeighbours = true;
@@ -47,11 +29,6 @@ public class LightingChunk extends DynamicChunk {
         BLOCK
     }
 
-    private enum QueueType {
-        INTERNAL,
-        EXTERNAL
-    }
-
     private static final Set<NamespaceID> DIFFUSE_SKY_LIGHT = Set.of(
             Block.COBWEB.namespace(),
             Block.ICE.namespace(),
@@ -81,7 +58,7 @@ public class LightingChunk extends DynamicChunk {
         super(instance, chunkX, chunkZ);
     }
 
-    private boolean checkSkyOcclusion(Block block) {
+    private static boolean checkSkyOcclusion(Block block) {
         if (block == Block.AIR) return false;
         if (DIFFUSE_SKY_LIGHT.contains(block.namespace())) return true;
 
@@ -92,7 +69,7 @@ public class LightingChunk extends DynamicChunk {
         return occludesBottom || occludesTop;
     }
 
-    private void invalidateSection(int coordinate) {
+    private void invalidateSection(int coordinate, boolean blockLight) {
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
                 Chunk neighborChunk = instance.getChunk(chunkX + i, chunkZ + j);
@@ -105,7 +82,7 @@ public class LightingChunk extends DynamicChunk {
 
                 for (int k = -1; k <= 1; k++) {
                     if (k + coordinate < neighborChunk.getMinSection() || k + coordinate >= neighborChunk.getMaxSection()) continue;
-                    neighborChunk.getSection(k + coordinate).blockLight().invalidate();
+                    if (blockLight) neighborChunk.getSection(k + coordinate).blockLight().invalidate();
                     neighborChunk.getSection(k + coordinate).skyLight().invalidate();
                 }
             }
@@ -117,16 +94,27 @@ public class LightingChunk extends DynamicChunk {
                          @Nullable BlockHandler.Placement placement,
                          @Nullable BlockHandler.Destroy destroy) {
         super.setBlock(x, y, z, block, placement, destroy);
-        this.heightmap = null;
+        if (skyHeightmap.update(ChunkUtils.toSectionRelativeCoordinate(x), y, ChunkUtils.toSectionRelativeCoordinate(z), block)) {
+            this.heightmap = null;
+        }
 
         // Invalidate neighbor chunks, since they can be updated by this block change
         int coordinate = ChunkUtils.getChunkCoordinate(y);
         if (chunkLoaded) {
-            invalidateSection(coordinate);
+            // Block light is updated in place when possible, sky light is recomputed
+            final boolean relit = instance.lightEngine.updateBlock(this, x, y, z);
+            invalidateSection(coordinate, !relit);
             this.lightCache.invalidate();
         }
     }
 
+    @Override
+    void invalidateHeightmaps() {
+        super.invalidateHeightmaps();
+        this.skyHeightmap.invalidate();
+        this.heightmap = null;
+    }
+
     public void sendLighting() {
         if (!isLoaded()) return;
         sendPacketToViewers(lightCache);
@@ -144,19 +132,12 @@ public class LightingChunk extends DynamicChunk {
         var heightmap = new int[CHUNK_SIZE_X * CHUNK_SIZE_Z];
 
         int minY = instance.getDimensionType().getMinY();
-        int maxY = instance.getDimensionType().getMinY() + instance.getDimensionType().getHeight();
 
         synchronized (this) {
-            for (int x = 0; x < CHUNK_SIZE_X; x++) {
-                for (int z = 0; z < CHUNK_SIZE_Z; z++) {
-                    int height = maxY;
-                    while (height > minY) {
-                        Block block = getBlock(x, height, z, Condition.TYPE);
-                        if (checkSkyOcclusion(block)) break;
-                        height--;
-                    }
-                    heightmap[z << 4 | x] = (height + 1);
-                }
+            // Blocks at the bottom of the world are never lit by the sky
+            final int[] heights = skyHeightmap.heights();
+            for (int i = 0; i < heights.length; i++) {
+                heightmap[i] = minY + Math.max(heights[i], 1);
             }
         }
 
@@ -228,182 +209,12 @@ public class LightingChunk extends DynamicChunk {
         }
     }
 
-    private static final LongSet queuedChunks = new LongOpenHashSet();
-    private static final List<LightingChunk> sendQueue = new ArrayList<>();
-    private static Task sendingTask = null;
-    private static final ReentrantLock lightLock = new ReentrantLock();
-    private static final ReentrantLock queueLock = new ReentrantLock();
-
     static void updateAfterGeneration(LightingChunk chunk) {
-        for (int i = -1; i <= 1; i++) {
-            for (int j = -1; j <= 1; j++) {
-                Chunk neighborChunk = chunk.instance.getChunk(chunk.chunkX + i, chunk.chunkZ + j);
-                if (neighborChunk == null) continue;
-
-                if (neighborChunk instanceof LightingChunk lightingChunk) {
-                    queueLock.lock();
-
-                    if (queuedChunks.add(ChunkUtils.getChunkIndex(lightingChunk.chunkX, lightingChunk.chunkZ))) {
-                        sendQueue.add(lightingChunk);
-                    }
-                    queueLock.unlock();
-                }
-            }
-        }
-
-        lightLock.lock();
-        if (sendingTask != null) {
-            lightLock.unlock();
-            return;
-        }
-
-        sendingTask = MinecraftServer.getSchedulerManager().scheduleTask(() -> {
-            queueLock.lock();
-            var copy = new ArrayList<>(sendQueue);
-            sendQueue.clear();
-            queuedChunks.clear();
-            queueLock.unlock();
-
-            // if (copy.size() != 0) {
-            //     System.out.println("Sending lighting for " + copy.size() + " chunks");
-            // }
-
-            int count = 0;
-
-            for (LightingChunk f : copy) {
-                f.sections.forEach(s -> {
-                    s.blockLight().invalidate();
-                    s.skyLight().invalidate();
-                });
-                f.chunkCache.invalidate();
-                f.lightCache.invalidate();
-            }
-
-            // Load all the lighting
-            for (LightingChunk f : copy) {
-                if (f.isLoaded()) {
-                    f.lightCache.body(ConnectionState.PLAY);
-                }
-            }
-
-            // Send it slowly
-            for (LightingChunk f : copy) {
-                if (f.isLoaded()) {
-                    f.sendLighting();
-                    if (f.getViewers().size() == 0) continue;
-                }
-                count++;
-
-                if (count % LIGHTING_CHUNKS_PER_SEND == 0) {
-                    // System.out.println("Sent " + count + " lighting chunks " + (count * 100 / copy.size()) + "%");
-                    try {
-                        Thread.sleep(LIGHTING_CHUNKS_SEND_DELAY);
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                }
-            }
-        }, TaskSchedule.immediate(), TaskSchedule.tick(20), ExecutionType.ASYNC);
-        lightLock.unlock();
-    }
-
-    private static void flushQueue(Instance instance, Set<Point> queue, LightType type, QueueType queueType) {
-        AtomicInteger count = new AtomicInteger(0);
-        Set<Light> sections = ConcurrentHashMap.newKeySet();
-        Set<Point> newQueue = ConcurrentHashMap.newKeySet();
-
-        for (Point point : queue) {
-            Chunk chunk = instance.getChunk(point.blockX(), point.blockZ());
-            if (chunk == null) {
-                count.getAndIncrement();
-                continue;
-            }
-
-            var light = type == LightType.BLOCK ? chunk.getSection(point.blockY()).blockLight() : chunk.getSection(point.blockY()).skyLight();
-
-            pool.submit(() -> {
-                if (queueType == QueueType.INTERNAL) light.calculateInternal(instance, chunk.getChunkX(), point.blockY(), chunk.getChunkZ());
-                else light.calculateExternal(instance, chunk, point.blockY());
-
-                sections.add(light);
-
-                var toAdd = light.flip();
-                if (toAdd != null) newQueue.addAll(toAdd);
-
-                count.incrementAndGet();
-            });
-        }
-
-        while (count.get() < queue.size()) { }
-
-        if (newQueue.size() > 0) {
-            flushQueue(instance, newQueue, type, QueueType.EXTERNAL);
-        }
+        chunk.instance.lightEngine.queueNeighbours(chunk);
     }
 
     public static void relight(Instance instance, Collection<Chunk> chunks) {
-        Set<Point> sections = new HashSet<>();
-
-        for (Chunk chunk : chunks) {
-            if (chunk == null) continue;
-            for (int section = chunk.minSection; section < chunk.maxSection; section++) {
-                chunk.getSection(section).blockLight().invalidate();
-                chunk.getSection(section).skyLight().invalidate();
-
-                sections.add(new Vec(chunk.getChunkX(), section, chunk.getChunkZ()));
-            }
-        }
-
-        synchronized (instance) {
-            relight(instance, sections, LightType.BLOCK);
-            relight(instance, sections, LightType.SKY);
-        }
-    }
-
-    private static Set<Point> getNearbyRequired(Instance instance, Point point) {
-        Set<Point> collected = new HashSet<>();
-        collected.add(point);
-
-        for (int x = point.blockX() - 1; x <= point.blockX() + 1; x++) {
-            for (int z = point.blockZ() - 1; z <= point.blockZ() + 1; z++) {
-                Chunk chunkCheck = instance.getChunk(x, z);
-                if (chunkCheck == null) continue;
-
-                for (int y = point.blockY() - 1; y <= point.blockY() + 1; y++) {
-                    Point sectionPosition = new Vec(x, y, z);
-
-                    if (sectionPosition.blockY() < chunkCheck.getMaxSection() && sectionPosition.blockY() >= chunkCheck.getMinSection()) {
-                        Section s = chunkCheck.getSection(sectionPosition.blockY());
-                        if (!s.blockLight().requiresUpdate() && !s.skyLight().requiresUpdate()) continue;
-
-                        collected.add(sectionPosition);
-                    }
-                }
-            }
-        }
-
-        return collected;
-    }
-
-    private static Set<Point> collectRequiredNearby(Instance instance, Point point) {
-        final Set<Point> found = new HashSet<>();
-        final ArrayDeque<Point> toCheck = new ArrayDeque<>();
-
-        toCheck.add(point);
-        found.add(point);
-
-        while (toCheck.size() > 0) {
-            final Point current = toCheck.poll();
-            final Set<Point> nearby = getNearbyRequired(instance, current);
-            nearby.forEach(p -> {
-                if (!found.contains(p)) {
-                    found.add(p);
-                    toCheck.add(p);
-                }
-            });
-        }
-
-        return found;
+        instance.lightEngine.relight(chunks);
     }
 
     static void relightSection(Instance instance, int chunkX, int sectionY, int chunkZ) {
@@ -412,19 +223,7 @@ public class LightingChunk extends DynamicChunk {
     }
 
     private static void relightSection(Instance instance, int chunkX, int sectionY, int chunkZ, LightType type) {
-        Chunk c = instance.getChunk(chunkX, chunkZ);
-        if (c == null) return;
-
-        synchronized (instance) {
-            Set<Point> collected = collectRequiredNearby(instance, new Vec(chunkX, sectionY, chunkZ));
-            // System.out.println("Calculating " + chunkX + " " + sectionY + " " + chunkZ + " | " + collected.size() + " | " + type);
-
-            relight(instance, collected, type);
-        }
-    }
-
-    private static void relight(Instance instance, Set<Point> queue, LightType type) {
-        flushQueue(instance, queue, type, QueueType.INTERNAL);
+        instance.lightEngine.relightSection(chunkX, sectionY, chunkZ, type);
     }
 
     @Override
@@ -2,8 +2,7 @@ package net.minestom.server.instance.batch;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.IntArraySet;
-import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minestom.server.instance.BlockChangeQueue;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceContainer;
@@ -180,18 +179,20 @@ public class ChunkBatch implements Batch<ChunkCallback> {
                 return;
             }
 
-            final IntSet sections = new IntArraySet();
+            // Send the changes to the viewers with the other block changes of the tick
+            final BlockChangeQueue changes = options.shouldSendUpdate() ? instance.getBlockChangeQueue() : null;
+            final boolean fullChunk = this.options.isFullChunk();
             synchronized (blocks) {
                 for (var entry : blocks.int2ObjectEntrySet()) {
                     final int position = entry.getIntKey();
                     final Block block = entry.getValue();
-                    final int section = apply(chunk, position, block, inverse);
-                    sections.add(section);
+                    apply(chunk, position, block, inverse, fullChunk ? null : changes);
                 }
             }
+            if (changes != null && fullChunk) changes.chunkChanged(chunk);
 
             if (inverse != null) inverse.readyLatch.countDown();
-            updateChunk(instance, chunk, sections, callback, safeCallback);
+            updateChunk(instance, chunk, callback, safeCallback);
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -203,9 +204,10 @@ public class ChunkBatch implements Batch<ChunkCallback> {
      * @param chunk The chunk to apply the change
      * @param index the block position computed using {@link ChunkUtils#getBlockIndex(int, int, int)}
      * @param block the block to place
-     * @return The chunk section which the block was placed
+     * @param changes the queue to send the change to the viewers, null to not send it
      */
-    private int apply(@NotNull Chunk chunk, int index, Block block, @Nullable ChunkBatch inverse) {
+    private void apply(@NotNull Chunk chunk, int index, Block block, @Nullable ChunkBatch inverse,
+                       @Nullable BlockChangeQueue changes) {
         final int x = ChunkUtils.blockIndexToChunkPositionX(index);
         final int y = ChunkUtils.blockIndexToChunkPositionY(index);
         final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
@@ -214,19 +216,13 @@ public class ChunkBatch implements Batch<ChunkCallback> {
             inverse.setBlock(x, y, z, prevBlock);
         }
         chunk.setBlock(x, y, z, block);
-        return ChunkUtils.getChunkCoordinate(y);
+        if (changes != null) changes.blockChanged(chunk, x, y, z, block);
     }
 
     /**
-     * Updates the given chunk for all of its viewers, and executes the callback.
+     * Refreshes the last block change time of the instance, and executes the callback.
      */
-    private void updateChunk(@NotNull Instance instance, Chunk chunk, IntSet updatedSections, @Nullable ChunkCallback callback, boolean safeCallback) {
-        // Refresh chunk for viewers
-        if (options.shouldSendUpdate()) {
-            // TODO update all sections from `updatedSections`
-            chunk.sendChunk();
-        }
-
+    private void updateChunk(@NotNull Instance instance, Chunk chunk, @Nullable ChunkCallback callback, boolean safeCallback) {
         if (instance instanceof InstanceContainer) {
             // FIXME: put method in Instance instead
             ((InstanceContainer) instance).refreshLastBlockChangeTime();
@@ -38,8 +38,10 @@ final class BlockLight implements Light {
 
     @Override
     public Set<Point> flip() {
-        if (this.contentPropagationSwap != null)
+        if (this.contentPropagationSwap != null) {
+            if (!Arrays.equals(contentPropagation, contentPropagationSwap)) this.needsSend = true;
             this.contentPropagation = this.contentPropagationSwap;
+        }
 
         this.contentPropagationSwap = null;
 
@@ -192,6 +194,23 @@ final class BlockLight implements Light {
         return this;
     }
 
+    @Override
+    public int updateBlock(int x, int y, int z) {
+        final byte[] content = this.content;
+        // Not computed yet, or light from the neighbors may have passed through the block
+        if (!isValidBorders || content == null) return -1;
+        final int index = x | (z << 4) | (y << 8);
+        if (contentPropagation != null && getLight(contentPropagation, index) > 0) return -1;
+
+        final byte[] updated = content.clone();
+        LightCompute.update(blockPalette, updated, x, y, z);
+        final int faces = LightCompute.compareBorders(content, updated);
+        if (faces == -1) return -1;
+        this.content = updated;
+        this.needsSend = true;
+        return faces;
+    }
+
     @Override
     public void invalidate() {
         invalidatePropagation();
@@ -46,6 +46,21 @@ public interface Light {
     @ApiStatus.Internal
     Light calculateInternal(Instance instance, int chunkX, int chunkY, int chunkZ);
 
+    /**
+     * Incrementally updates the light emitted inside the section after a block change,
+     * the section palette must already contain the new block.
+     *
+     * @param x the block x coordinate in the section
+     * @param y the block y coordinate in the section
+     * @param z the block z coordinate in the section
+     * @return the mask of the faces (by {@link BlockFace} ordinal) whose border got brighter,
+     * or -1 if the change cannot be applied incrementally and the section must be invalidated
+     */
+    @ApiStatus.Internal
+    default int updateBlock(int x, int y, int z) {
+        return -1;
+    }
+
     void invalidate();
 
     boolean requiresUpdate();
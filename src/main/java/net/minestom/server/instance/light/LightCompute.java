@@ -84,6 +84,130 @@ public final class LightCompute {
         return new Result(lightArray);
     }
 
+    /**
+     * Incrementally updates the light of a section after the block at the given position changed.
+     * <p>
+     * The light which may have been emitted by or passed through the previous block is first removed, by clearing the
+     * cells lit with a lower level than their neighbour being cleared. The cleared area is then relit from the
+     * emitting blocks it contains and from its brighter border, along with the new block.
+     * Only the cells whose light depended on the changed block are visited.
+     *
+     * @param blockPalette the block palette, already containing the new block
+     * @param light        the light to update in place
+     */
+    static void update(Palette blockPalette, byte[] light, int x, int y, int z) {
+        final ShortArrayFIFOQueue removal = new ShortArrayFIFOQueue();
+        final ShortArrayFIFOQueue increase = new ShortArrayFIFOQueue();
+        final int changed = x | (z << 4) | (y << 8);
+
+        final int previousLevel = getLight(light, changed);
+        if (previousLevel > 0) {
+            placeLight(light, changed, 0);
+            removal.enqueue((short) (changed | (previousLevel << 12)));
+        }
+        // Light around the block may now pass through it
+        for (BlockFace face : FACES) {
+            final int neighbor = neighborIndex(changed, face);
+            if (neighbor == -1) continue;
+            final int level = getLight(light, neighbor);
+            if (level > 0) increase.enqueue((short) (neighbor | (level << 12)));
+        }
+        seed(blockPalette, light, increase, changed);
+
+        while (!removal.isEmpty()) {
+            final int entry = removal.dequeueShort() & 0xFFFF;
+            final int index = entry & 0xFFF;
+            final int level = entry >>> 12;
+            for (BlockFace face : FACES) {
+                final int neighbor = neighborIndex(index, face);
+                if (neighbor == -1) continue;
+                final int neighborLevel = getLight(light, neighbor);
+                if (neighborLevel == 0) continue;
+                if (neighborLevel < level) {
+                    placeLight(light, neighbor, 0);
+                    removal.enqueue((short) (neighbor | (neighborLevel << 12)));
+                    seed(blockPalette, light, increase, neighbor);
+                } else {
+                    // Lit by another source, relight the cleared area from it
+                    increase.enqueue((short) (neighbor | (neighborLevel << 12)));
+                }
+            }
+        }
+
+        while (!increase.isEmpty()) {
+            final int entry = increase.dequeueShort() & 0xFFFF;
+            final int index = entry & 0xFFF;
+            final int level = entry >>> 12;
+            // Outdated entry, the cell has been cleared or relit since
+            if (getLight(light, index) != level || level <= 1) continue;
+            final Block currentBlock = blockAt(blockPalette, index);
+            for (BlockFace face : FACES) {
+                final int neighbor = neighborIndex(index, face);
+                if (neighbor == -1) continue;
+                if (getLight(light, neighbor) + 2 > level) continue;
+                final Block propagatedBlock = blockAt(blockPalette, neighbor);
+                boolean airAir = currentBlock.isAir() && propagatedBlock.isAir();
+                if (!airAir && currentBlock.registry().collisionShape().isOccluded(propagatedBlock.registry().collisionShape(), face)) continue;
+                placeLight(light, neighbor, level - 1);
+                increase.enqueue((short) (neighbor | ((level - 1) << 12)));
+            }
+        }
+    }
+
+    /**
+     * Compares the border cells of two versions of a section light.
+     *
+     * @return -1 if any border cell got darker, otherwise the mask of the faces (by ordinal) with a brighter border cell
+     */
+    static int compareBorders(byte[] previous, byte[] updated) {
+        int faces = 0;
+        for (BlockFace face : FACES) {
+            final int k = switch (face) {
+                case WEST, BOTTOM, NORTH -> 0;
+                case EAST, TOP, SOUTH -> 15;
+            };
+            for (int bx = 0; bx < SECTION_SIZE; bx++) {
+                for (int by = 0; by < SECTION_SIZE; by++) {
+                    final int index = switch (face) {
+                        case NORTH, SOUTH -> bx | (k << 4) | (by << 8);
+                        case WEST, EAST -> k | (by << 4) | (bx << 8);
+                        default -> bx | (by << 4) | (k << 8);
+                    };
+                    final int before = getLight(previous, index);
+                    final int after = getLight(updated, index);
+                    if (after < before) return -1;
+                    if (after > before) faces |= 1 << face.ordinal();
+                }
+            }
+        }
+        return faces;
+    }
+
+    private static void seed(Palette blockPalette, byte[] light, ShortArrayFIFOQueue increase, int index) {
+        final int emission = blockAt(blockPalette, index).registry().lightEmission();
+        if (emission > getLight(light, index)) {
+            placeLight(light, index, emission);
+            increase.enqueue((short) (index | (emission << 12)));
+        }
+    }
+
+    private static Block blockAt(Palette blockPalette, int index) {
+        final Block block = Block.fromStateId((short) blockPalette.get(index & 15, (index >> 8) & 15, (index >> 4) & 15));
+        return Objects.requireNonNullElse(block, Block.AIR);
+    }
+
+    /**
+     * @return the index of the neighbor cell, or -1 if outside the section
+     */
+    private static int neighborIndex(int index, BlockFace face) {
+        final Direction dir = face.toDirection();
+        final int x = (index & 15) + dir.normalX();
+        final int z = ((index >> 4) & 15) + dir.normalZ();
+        final int y = ((index >> 8) & 15) + dir.normalY();
+        if (x < 0 || x >= SECTION_SIZE || y < 0 || y >= SECTION_SIZE || z < 0 || z >= SECTION_SIZE) return -1;
+        return x | (z << 4) | (y << 8);
+    }
+
     record Result(byte[] light) {
         Result {
             assert light.length == LIGHT_LENGTH : "Only 16x16x16 sections are supported: " + light.length;
@@ -11,6 +11,7 @@ import net.minestom.server.event.player.PlayerCancelDiggingEvent;
 import net.minestom.server.event.player.PlayerFinishDiggingEvent;
 import net.minestom.server.event.player.PlayerStartDiggingEvent;
 import net.minestom.server.event.player.PlayerSwapItemEvent;
+import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
@@ -58,6 +59,9 @@ public final class PlayerDiggingListener {
                 // Refresh block on player screen in case it had special data (like a sign)
                 var registry = diggingResult.block().registry();
                 if (registry.isBlockEntity()) {
+                    // Pending block changes must reach the viewers before the block entity data
+                    final Chunk chunk = instance.getChunkAt(blockPosition);
+                    if (chunk != null) instance.getBlockChangeQueue().flush(chunk);
                     final NBTCompound data = BlockUtils.extractClientNbt(diggingResult.block());
                     player.sendPacketToViewersAndSelf(new BlockEntityDataPacket(blockPosition, registry.blockEntityId(), data));
                 }
@@ -3,6 +3,7 @@ package net.minestom.server.listener;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerMoveEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.packet.client.play.*;
@@ -53,18 +54,24 @@ public class PlayerPositionListener {
             return;
         }
 
-        PlayerMoveEvent playerMoveEvent = new PlayerMoveEvent(player, packetPosition, onGround);
-        EventDispatcher.call(playerMoveEvent);
-        if (!currentPosition.equals(player.getPosition())) {
-            // Player has been teleported in the event
-            return;
-        }
-        if (playerMoveEvent.isCancelled()) {
-            // Teleport to previous position
-            player.sendPacket(new PlayerPositionAndLookPacket(currentPosition, (byte) 0x00, player.getNextTeleportId()));
-            return;
+        final ListenerHandle<PlayerMoveEvent> handle = EventDispatcher.getHandle(PlayerMoveEvent.class);
+        final Pos eventPosition;
+        if (handle.hasListener()) {
+            final PlayerMoveEvent playerMoveEvent = new PlayerMoveEvent(player, packetPosition, onGround);
+            handle.call(playerMoveEvent);
+            if (!currentPosition.equals(player.getPosition())) {
+                // Player has been teleported in the event
+                return;
+            }
+            if (playerMoveEvent.isCancelled()) {
+                // Teleport to previous position
+                player.sendPacket(new PlayerPositionAndLookPacket(currentPosition, (byte) 0x00, player.getNextTeleportId()));
+                return;
+            }
+            eventPosition = playerMoveEvent.getNewPosition();
+        } else {
+            eventPosition = packetPosition;
         }
-        final Pos eventPosition = playerMoveEvent.getNewPosition();
         if (packetPosition.equals(eventPosition)) {
             // Event didn't change the position
             player.refreshPosition(eventPosition);
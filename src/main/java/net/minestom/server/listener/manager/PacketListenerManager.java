@@ -2,6 +2,7 @@ package net.minestom.server.listener.manager;
 
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.event.EventDispatcher;
+import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketEvent;
 import net.minestom.server.listener.*;
 import net.minestom.server.listener.common.KeepAliveListener;
@@ -117,10 +118,13 @@ public final class PacketListenerManager {
 
         // Event
         if (state == ConnectionState.PLAY) {
-            PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(connection.getPlayer(), packet);
-            EventDispatcher.call(playerPacketEvent);
-            if (playerPacketEvent.isCancelled()) {
-                return;
+            final ListenerHandle<PlayerPacketEvent> handle = EventDispatcher.getHandle(PlayerPacketEvent.class);
+            if (handle.hasListener()) {
+                final PlayerPacketEvent playerPacketEvent = new PlayerPacketEvent(connection.getPlayer(), packet);
+                handle.call(playerPacketEvent);
+                if (playerPacketEvent.isCancelled()) {
+                    return;
+                }
             }
         }
 
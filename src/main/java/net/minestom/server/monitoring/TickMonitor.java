@@ -1,13 +1,31 @@
 package net.minestom.server.monitoring;
 
+import net.minestom.server.thread.ThreadDispatcher;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
 public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final List<ThreadDispatcher.ThreadTimings> threadTimings;
+    private final ViewerChanges viewerChanges;
 
     public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, List.of());
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, @NotNull List<ThreadDispatcher.ThreadTimings> threadTimings) {
+        this(tickTime, acquisitionTime, threadTimings, new ViewerChanges(0, 0, 0));
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, @NotNull List<ThreadDispatcher.ThreadTimings> threadTimings,
+                       @NotNull ViewerChanges viewerChanges) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.threadTimings = List.copyOf(threadTimings);
+        this.viewerChanges = viewerChanges;
     }
 
     public double getTickTime() {
@@ -17,4 +35,34 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the timings of each tick thread.
+     * <p>
+     * Per-partition timings can be retrieved using {@link ThreadDispatcher#partitionTimings()}.
+     *
+     * @return the tick threads timings
+     */
+    public @NotNull List<ThreadDispatcher.ThreadTimings> getThreadTimings() {
+        return threadTimings;
+    }
+
+    /**
+     * Gets the number of automatic viewer changes applied during the tick.
+     *
+     * @return the viewer changes
+     */
+    public @NotNull ViewerChanges getViewerChanges() {
+        return viewerChanges;
+    }
+
+    /**
+     * Automatic viewer changes caused by entities moving, spawning or despawning.
+     *
+     * @param additions the number of entities which entered the view range of another
+     * @param removals  the number of entities which left the view range of another
+     * @param batches   the number of tracker updates whose changes were applied together
+     */
+    public record ViewerChanges(long additions, long removals, long batches) {
+    }
 }
@@ -5,6 +5,7 @@ import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.ListenerHandle;
+import net.minestom.server.event.player.PlayerOutboundBackpressureEvent;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
 import net.minestom.server.network.ConnectionState;
@@ -13,12 +14,14 @@ import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
 import net.minestom.server.network.packet.server.*;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.socket.Server;
 import net.minestom.server.network.socket.Worker;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedXaddArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,6 +38,7 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SocketChannel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.DataFormatException;
 
@@ -50,10 +54,16 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     private final Worker worker;
     private final MessagePassingQueue<Runnable> workerQueue;
+    // Writes waiting for the worker in send order, scheduled at most once until drained
+    // Either a SendablePacket, a list of packets or a BufferWrite
+    private final MessagePassingQueue<Object> packetQueue = new MpscUnboundedXaddArrayQueue<>(64);
+    private final AtomicBoolean packetsScheduled = new AtomicBoolean();
     private final SocketChannel channel;
     private SocketAddress remoteAddress;
 
     private volatile boolean compressed = false;
+    // Worker thread only, switched once the compression packet has been written
+    private boolean writeCompressed = false;
 
     //Could be null. Only used for Mojang Auth
     private volatile EncryptionContext encryptionContext;
@@ -73,8 +83,18 @@ public class PlayerSocketConnection extends PlayerConnection {
     private final List<BinaryBuffer> waitingBuffers = new ArrayList<>();
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
     private BinaryBuffer cacheBuffer;
+    // Worker thread only, whether the connection is part of the worker dirty list
+    private boolean flushPending;
+    private ByteBuffer[] gatherBuffers = new ByteBuffer[4];
+
+    // Outbound backpressure, the queued bytes are only written by the worker thread
+    private volatile int lowWatermark = Server.OUTBOUND_LOW_WATERMARK;
+    private volatile int highWatermark = Server.OUTBOUND_HIGH_WATERMARK;
+    private volatile long queuedBytes;
+    private volatile boolean writable = true;
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
+    private final ListenerHandle<PlayerOutboundBackpressureEvent> backpressure = EventDispatcher.getHandle(PlayerOutboundBackpressureEvent.class);
 
     public PlayerSocketConnection(@NotNull Worker worker, @NotNull SocketChannel channel, SocketAddress remoteAddress) {
         super();
@@ -156,22 +176,50 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     @Override
     public void sendPacket(@NotNull SendablePacket packet) {
-        final boolean compressed = this.compressed;
-        this.workerQueue.relaxedOffer(() -> writePacketSync(packet, compressed));
+        queueWrite(packet);
     }
 
     @Override
     public void sendPackets(@NotNull Collection<SendablePacket> packets) {
-        final List<SendablePacket> packetsCopy = List.copyOf(packets);
-        final boolean compressed = this.compressed;
-        this.workerQueue.relaxedOffer(() -> {
-            for (SendablePacket packet : packetsCopy) writePacketSync(packet, compressed);
-        });
+        queueWrite(List.copyOf(packets));
     }
 
     @ApiStatus.Internal
     public void write(@NotNull ByteBuffer buffer, int index, int length) {
-        this.workerQueue.relaxedOffer(() -> writeBufferSync(buffer, index, length));
+        queueWrite(new BufferWrite(buffer, index, length));
+    }
+
+    private void queueWrite(Object write) {
+        this.packetQueue.relaxedOffer(write);
+        if (!packetsScheduled.get() && packetsScheduled.compareAndSet(false, true)) {
+            this.worker.schedule(this);
+        }
+    }
+
+    /**
+     * Writes all the packets and buffers sent to this connection to the local buffer, in send order.
+     * <p>
+     * Called by the worker, and before any other write to preserve ordering.
+     */
+    @ApiStatus.Internal
+    @SuppressWarnings("unchecked")
+    public void drainPacketsSync() {
+        this.packetsScheduled.set(false);
+        final MessagePassingQueue<Object> packetQueue = this.packetQueue;
+        Object write;
+        // Non-relaxed poll, do not miss writes offered before the schedule flag got reset
+        while ((write = packetQueue.poll()) != null) {
+            if (write instanceof SendablePacket packet) {
+                writeQueuedPacket(packet);
+            } else if (write instanceof BufferWrite bufferWrite) {
+                writeBufferSync(bufferWrite.buffer(), bufferWrite.index(), bufferWrite.length());
+            } else {
+                for (SendablePacket packet : (List<SendablePacket>) write) writeQueuedPacket(packet);
+            }
+        }
+    }
+
+    private record BufferWrite(ByteBuffer buffer, int index, int length) {
     }
 
     @ApiStatus.Internal
@@ -200,11 +248,15 @@ public class PlayerSocketConnection extends PlayerConnection {
     public void disconnect() {
         super.disconnect();
         this.workerQueue.relaxedOffer(() -> {
+            drainPacketsSync();
             this.worker.disconnect(this, channel);
             final BinaryBuffer tick = tickBuffer.getAndSet(null);
             if (tick != null) POOL.add(tick);
             for (BinaryBuffer buffer : waitingBuffers) POOL.add(buffer);
             this.waitingBuffers.clear();
+            // The pending data is dropped with the buffers
+            this.queuedBytes = 0;
+            this.writable = true;
         });
     }
 
@@ -212,6 +264,44 @@ public class PlayerSocketConnection extends PlayerConnection {
         return channel;
     }
 
+    /**
+     * Gets the number of bytes written by the server but not yet accepted by the socket.
+     *
+     * @return the outbound queued bytes
+     */
+    public long getQueuedBytes() {
+        return queuedBytes;
+    }
+
+    /**
+     * Gets if the outbound queue is below the high watermark.
+     * <p>
+     * Once the high watermark is crossed, the connection stays unwritable until the queue
+     * drains below the low watermark.
+     *
+     * @return true if the connection is not backed up
+     * @see PlayerOutboundBackpressureEvent
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * Changes the outbound queue thresholds of this connection.
+     * <p>
+     * Default values are {@link Server#OUTBOUND_LOW_WATERMARK} and {@link Server#OUTBOUND_HIGH_WATERMARK}.
+     *
+     * @param lowWatermark  the size under which the connection becomes writable again
+     * @param highWatermark the size above which the connection becomes unwritable
+     * @throws IllegalArgumentException if {@code lowWatermark} is greater than {@code highWatermark}
+     */
+    public void setWatermarks(int lowWatermark, int highWatermark) {
+        Check.argCondition(lowWatermark < 0, "The low watermark cannot be negative");
+        Check.argCondition(lowWatermark > highWatermark, "The low watermark cannot be greater than the high watermark");
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+    }
+
     public @Nullable GameProfile gameProfile() {
         return gameProfile;
     }
@@ -333,13 +423,18 @@ public class PlayerSocketConnection extends PlayerConnection {
         this.nonce = nonce;
     }
 
+    private void writeQueuedPacket(SendablePacket packet) {
+        writePacketSync(packet, writeCompressed);
+        // Packets following the compression packet must be compressed
+        if (packet instanceof SetCompressionPacket) this.writeCompressed = true;
+    }
+
     private void writePacketSync(SendablePacket packet, boolean compressed) {
         if (!channel.isConnected()) return;
         final Player player = getPlayer();
         // Outgoing event
         if (player != null && outgoing.hasListener()) {
-            final ServerPacket serverPacket = SendablePacket.extractServerPacket(getConnectionState(), packet);
-            PlayerPacketOutEvent event = new PlayerPacketOutEvent(player, serverPacket);
+            final PlayerPacketOutEvent event = new PlayerPacketOutEvent(player, SendablePacket.extractServerPacket(getConnectionState(), packet));
             outgoing.call(event);
             if (event.isCancelled()) return;
         }
@@ -396,6 +491,10 @@ public class PlayerSocketConnection extends PlayerConnection {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
         if (localBuffer == null)
             return; // Socket is closed
+        if (!flushPending) {
+            this.flushPending = true;
+            this.worker.markDirty(this);
+        }
         final int capacity = localBuffer.capacity();
         if (length <= capacity) {
             if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
@@ -409,26 +508,94 @@ public class PlayerSocketConnection extends PlayerConnection {
                 localBuffer.write(buffer, sliceStart, sliceLength);
             }
         }
+        updateQueuedBytes(length);
     }
 
-    public void flushSync() throws IOException {
+    private void updateQueuedBytes(long delta) {
+        final long queuedBytes = this.queuedBytes + delta;
+        this.queuedBytes = queuedBytes;
+        if (writable) {
+            if (queuedBytes > highWatermark) updateWritability(false, queuedBytes);
+        } else if (queuedBytes <= lowWatermark) {
+            updateWritability(true, queuedBytes);
+        }
+        final int maxBytes = Server.OUTBOUND_MAX_BYTES;
+        if (maxBytes > 0 && queuedBytes > maxBytes && isOnline()) {
+            LOGGER.warn("Disconnecting {}, outbound queue exceeded {} bytes", remoteAddress, maxBytes);
+            disconnect();
+        }
+    }
+
+    private void updateWritability(boolean writable, long queuedBytes) {
+        this.writable = writable;
+        final Player player = getPlayer();
+        if (player != null && backpressure.hasListener()) {
+            backpressure.call(new PlayerOutboundBackpressureEvent(player, writable, queuedBytes));
+        }
+    }
+
+    /**
+     * Writes as much pending data as the socket accepts.
+     *
+     * @return true if all the pending data has been written
+     * @throws IOException if the socket is closed
+     */
+    public boolean flushSync() throws IOException {
         final SocketChannel channel = this.channel;
         final List<BinaryBuffer> waitingBuffers = this.waitingBuffers;
         if (!channel.isConnected()) throw new ClosedChannelException();
+        final BinaryBuffer localBuffer = tickBuffer.getPlain();
+        if (localBuffer == null)
+            return true; // Socket is closed
         if (waitingBuffers.isEmpty()) {
-            BinaryBuffer localBuffer = tickBuffer.getPlain();
-            if (localBuffer == null)
-                return; // Socket is closed
-            localBuffer.writeChannel(channel);
-        } else {
-            // Write as much as possible from the waiting list
-            Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
-            while (iterator.hasNext()) {
-                BinaryBuffer waitingBuffer = iterator.next();
-                if (!waitingBuffer.writeChannel(channel)) break;
-                iterator.remove();
+            final int readable = localBuffer.readableBytes();
+            final boolean flushed = localBuffer.writeChannel(channel);
+            updateQueuedBytes(localBuffer.readableBytes() - readable);
+            if (!flushed) return false;
+        } else if (!flushGathering(channel, waitingBuffers, localBuffer)) {
+            return false;
+        }
+        // Everything has been written, the local buffer can be reused from the start
+        localBuffer.clear();
+        this.flushPending = false;
+        return true;
+    }
+
+    /**
+     * Writes the waiting list followed by the local buffer using a single gathering write.
+     */
+    private boolean flushGathering(SocketChannel channel, List<BinaryBuffer> waitingBuffers,
+                                   BinaryBuffer localBuffer) throws IOException {
+        final int waitingCount = waitingBuffers.size();
+        ByteBuffer[] gatherBuffers = this.gatherBuffers;
+        if (gatherBuffers.length < waitingCount + 1) {
+            gatherBuffers = new ByteBuffer[waitingCount + 1];
+            this.gatherBuffers = gatherBuffers;
+        }
+        for (int i = 0; i < waitingCount; i++) {
+            final BinaryBuffer waitingBuffer = waitingBuffers.get(i);
+            gatherBuffers[i] = waitingBuffer.asByteBuffer(waitingBuffer.readerOffset(), waitingBuffer.readableBytes());
+        }
+        gatherBuffers[waitingCount] = localBuffer.asByteBuffer(localBuffer.readerOffset(), localBuffer.readableBytes());
+        try {
+            final long count = channel.write(gatherBuffers, 0, waitingCount + 1);
+            updateQueuedBytes(-count);
+            // Release fully written buffers, keep the rest for the next flush
+            int written = 0;
+            for (; written < waitingCount; written++) {
+                final BinaryBuffer waitingBuffer = waitingBuffers.get(written);
+                final ByteBuffer slice = gatherBuffers[written];
+                waitingBuffer.readerOffset(waitingBuffer.readerOffset() + slice.position());
+                if (slice.hasRemaining()) break;
                 POOL.add(waitingBuffer);
             }
+            waitingBuffers.subList(0, written).clear();
+            if (written != waitingCount) return false;
+            final ByteBuffer localSlice = gatherBuffers[waitingCount];
+            localBuffer.readerOffset(localBuffer.readerOffset() + localSlice.position());
+            return !localSlice.hasRemaining();
+        } finally {
+            Arrays.fill(gatherBuffers, 0, waitingCount + 1, null);
         }
     }
 
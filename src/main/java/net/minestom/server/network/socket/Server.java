@@ -20,6 +20,9 @@ public final class Server {
     public static final int MAX_PACKET_SIZE = Integer.getInteger("minestom.max-packet-size", 2_097_151); // 3 bytes var-int
     public static final int SOCKET_SEND_BUFFER_SIZE = Integer.getInteger("minestom.send-buffer-size", 262_143);
     public static final int SOCKET_RECEIVE_BUFFER_SIZE = Integer.getInteger("minestom.receive-buffer-size", 32_767);
+    public static final int OUTBOUND_HIGH_WATERMARK = Integer.getInteger("minestom.outbound-high-watermark", 4_194_304);
+    public static final int OUTBOUND_LOW_WATERMARK = Integer.getInteger("minestom.outbound-low-watermark", 1_048_576);
+    public static final int OUTBOUND_MAX_BYTES = Integer.getInteger("minestom.outbound-max-bytes", 0); // 0 = unlimited
 
     public static final boolean NO_DELAY = true;
 
@@ -15,6 +15,8 @@ import java.net.Socket;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -27,6 +29,10 @@ public final class Worker extends MinestomThread {
     private final Map<SocketChannel, PlayerSocketConnection> connectionMap = new ConcurrentHashMap<>();
     private final Server server;
     private final MpscUnboundedXaddArrayQueue<Runnable> queue = new MpscUnboundedXaddArrayQueue<>(1024);
+    // Connections with packets waiting in their own queue
+    private final MpscUnboundedXaddArrayQueue<PlayerSocketConnection> scheduledConnections = new MpscUnboundedXaddArrayQueue<>(1024);
+    // Connections with pending outbound data, only accessed from the worker thread
+    private final List<PlayerSocketConnection> dirtyConnections = new ArrayList<>();
 
     Worker(Server server) {
         super("Ms-worker-" + COUNTER.getAndIncrement());
@@ -51,14 +57,13 @@ public final class Worker extends MinestomThread {
                 } catch (Exception e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
-                // Flush all connections if needed
-                for (PlayerSocketConnection connection : connectionMap.values()) {
-                    try {
-                        connection.flushSync();
-                    } catch (Exception e) {
-                        connection.disconnect();
-                    }
+                try {
+                    this.scheduledConnections.drain(PlayerSocketConnection::drainPacketsSync);
+                } catch (Exception e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
                 }
+                // Flush connections which received data since the last wakeup
+                flushDirtyConnections();
                 // Wait for an event
                 this.selector.select(key -> {
                     final SocketChannel channel = (SocketChannel) key.channel();
@@ -96,10 +101,48 @@ public final class Worker extends MinestomThread {
         }
     }
 
+    private void flushDirtyConnections() {
+        final List<PlayerSocketConnection> dirtyConnections = this.dirtyConnections;
+        if (dirtyConnections.isEmpty()) return;
+        int retained = 0;
+        for (int i = 0; i < dirtyConnections.size(); i++) {
+            final PlayerSocketConnection connection = dirtyConnections.get(i);
+            boolean flushed;
+            try {
+                flushed = connection.flushSync();
+            } catch (Exception e) {
+                connection.disconnect();
+                flushed = true;
+            }
+            // Keep connections whose socket could not accept everything, retry on next wakeup
+            if (!flushed) dirtyConnections.set(retained++, connection);
+        }
+        dirtyConnections.subList(retained, dirtyConnections.size()).clear();
+    }
+
+    /**
+     * Schedules the connection to be flushed on the next wakeup.
+     * <p>
+     * Must be called from this worker thread, at most once until {@link PlayerSocketConnection#flushSync()} succeeds.
+     *
+     * @param connection the connection with pending data
+     */
+    @ApiStatus.Internal
+    public void markDirty(PlayerSocketConnection connection) {
+        assert Thread.currentThread() == this;
+        this.dirtyConnections.add(connection);
+    }
+
+    int dirtyConnectionCount() {
+        assert Thread.currentThread() == this;
+        return dirtyConnections.size();
+    }
+
     public void disconnect(PlayerSocketConnection connection, SocketChannel channel) {
         assert !connection.isOnline();
         assert Thread.currentThread() == this;
         this.connectionMap.remove(channel);
+        this.dirtyConnections.remove(connection);
         if (channel.isOpen()) {
             try {
                 connection.flushSync();
@@ -123,6 +166,16 @@ public final class Worker extends MinestomThread {
         }
     }
 
+    /**
+     * Schedules the packet queue of a connection to be drained on the next wakeup.
+     *
+     * @param connection the connection with queued packets
+     */
+    @ApiStatus.Internal
+    public void schedule(PlayerSocketConnection connection) {
+        this.scheduledConnections.relaxedOffer(connection);
+    }
+
     public MessagePassingQueue<Runnable> queue() {
         return queue;
     }
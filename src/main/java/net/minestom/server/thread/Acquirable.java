@@ -117,6 +117,19 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
         AsyncUtils.runAsync(() -> sync(consumer));
     }
 
+    /**
+     * Schedules {@code consumer} to be executed by the thread ticking the element,
+     * at the start of its next tick and before any element is ticked.
+     * <p>
+     * Unlike {@link #sync(Consumer)} and {@link #async(Consumer)}, no lock is involved: actions are queued
+     * without blocking and executed in scheduling order (for a single caller thread).
+     * Useful for interactions that do not need an immediate result (e.g. applying damage to an entity
+     * ticked by another thread).
+     *
+     * @param consumer the action to execute on the element
+     */
+    void schedule(@NotNull Consumer<T> consumer);
+
     /**
      * Unwrap the contained object unsafely.
      * <p>
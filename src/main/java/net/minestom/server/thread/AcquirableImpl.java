@@ -4,16 +4,20 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 final class AcquirableImpl<T> implements Acquirable<T> {
     static final AtomicLong WAIT_COUNTER_NANO = new AtomicLong();
+    private static final long NESTED_TIMEOUT = Long.getLong("minestom.acquirable.nested-timeout", 1000L);
 
     /**
-     * Global lock used for synchronization.
+     * Thread locks acquired by non-tick threads, tick threads use {@link TickThread#heldLocks()}.
      */
-    private static final ReentrantLock GLOBAL_LOCK = new ReentrantLock();
+    private static final ThreadLocal<HeldLocks> HELD_LOCKS = ThreadLocal.withInitial(HeldLocks::new);
 
     private final T value;
     private TickThread assignedThread;
@@ -33,6 +37,27 @@ final class AcquirableImpl<T> implements Acquirable<T> {
         return assignedThread;
     }
 
+    @Override
+    public void schedule(@NotNull Consumer<T> consumer) {
+        final TickThread thread = assignedThread();
+        if (thread == null) {
+            // Not ticked yet
+            sync(consumer);
+            return;
+        }
+        thread.schedule(() -> deliver(consumer));
+    }
+
+    private void deliver(Consumer<T> consumer) {
+        final TickThread thread = assignedThread();
+        if (thread == null || thread == Thread.currentThread()) {
+            consumer.accept(value);
+        } else {
+            // The element moved to another thread since the action has been scheduled
+            thread.schedule(() -> deliver(consumer));
+        }
+    }
+
     void updateThread(@NotNull TickThread thread) {
         this.assignedThread = thread;
         VarHandle.releaseFence();
@@ -41,7 +66,6 @@ final class AcquirableImpl<T> implements Acquirable<T> {
     static @Nullable ReentrantLock enter(@NotNull Thread currentThread, @Nullable TickThread elementThread) {
         if (elementThread == null) return null;
         if (currentThread == elementThread) return null;
-        final ReentrantLock currentLock = currentThread instanceof TickThread ? ((TickThread) currentThread).lock() : null;
         final ReentrantLock targetLock = elementThread.lock();
         if (targetLock.isHeldByCurrentThread()) return null;
 
@@ -49,16 +73,11 @@ final class AcquirableImpl<T> implements Acquirable<T> {
         final long time = System.nanoTime();
 
         // Enter the target thread
-        // TODO reduce global lock scope
-        if (currentLock != null) {
-            while (!GLOBAL_LOCK.tryLock()) {
-                currentLock.unlock();
-                currentLock.lock();
-            }
-        } else {
-            GLOBAL_LOCK.lock();
+        final HeldLocks heldLocks = heldLocks(currentThread);
+        if (!targetLock.tryLock()) {
+            lockOrdered(currentThread, heldLocks, elementThread);
         }
-        targetLock.lock();
+        heldLocks.add(elementThread);
 
         // Monitoring
         WAIT_COUNTER_NANO.addAndGet(System.nanoTime() - time);
@@ -67,8 +86,82 @@ final class AcquirableImpl<T> implements Acquirable<T> {
 
     static void leave(@Nullable ReentrantLock lock) {
         if (lock != null) {
+            heldLocks(Thread.currentThread()).remove(lock);
             lock.unlock();
-            GLOBAL_LOCK.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the lock of {@code target} is acquired.
+     * <p>
+     * A thread only ever blocks on a lock ordered after all the locks it holds, so no cycle can form
+     * between waiting threads. The current tick thread's own lock is released while waiting if ordered after the target,
+     * as other threads may need it to make progress. Locks of outer acquisitions are never released,
+     * which would break the exclusivity of their sections: a nested acquisition ordered before one of them
+     * keeps all its locks, waits at most {@link #NESTED_TIMEOUT} milliseconds and fails with an {@link IllegalStateException},
+     * as waiting longer could deadlock.
+     */
+    private static void lockOrdered(Thread currentThread, HeldLocks heldLocks, TickThread target) {
+        final long order = target.order();
+        final ReentrantLock targetLock = target.lock();
+        for (int i = 0; i < heldLocks.size; i++) {
+            final TickThread held = heldLocks.threads[i];
+            if (held.order() > order) {
+                lockOutOfOrder(held, target);
+                return;
+            }
+        }
+        if (currentThread instanceof TickThread tickThread && tickThread.order() > order) {
+            final ReentrantLock ownLock = tickThread.lock();
+            final int holdCount = ownLock.getHoldCount();
+            for (int i = 0; i < holdCount; i++) ownLock.unlock();
+            targetLock.lock();
+            for (int i = 0; i < holdCount; i++) ownLock.lock();
+        } else {
+            targetLock.lock();
+        }
+    }
+
+    private static void lockOutOfOrder(TickThread held, TickThread target) {
+        boolean interrupted = false;
+        try {
+            if (target.lock().tryLock(NESTED_TIMEOUT, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupted = true;
+        }
+        throw new IllegalStateException("Could not acquire an element of " + target.getName() + " while holding one of " + held.getName() +
+                (interrupted ? " (interrupted)" : " within " + NESTED_TIMEOUT + "ms") +
+                ", nested acquisitions should follow the thread order or be done outside of the outer acquisition");
+    }
+
+    private static HeldLocks heldLocks(Thread thread) {
+        return thread instanceof TickThread tickThread ? tickThread.heldLocks() : HELD_LOCKS.get();
+    }
+
+    /**
+     * Tick thread locks acquired by a thread, excluding its own.
+     * <p>
+     * Only accessed by the owning thread.
+     */
+    static final class HeldLocks {
+        private TickThread[] threads = new TickThread[2];
+        private int size;
+
+        void add(TickThread thread) {
+            if (size == threads.length) this.threads = Arrays.copyOf(threads, size * 2);
+            this.threads[size++] = thread;
+        }
+
+        void remove(ReentrantLock lock) {
+            final TickThread[] threads = this.threads;
+            for (int i = size - 1; i >= 0; i--) {
+                if (threads[i].lock() == lock) {
+                    System.arraycopy(threads, i + 1, threads, i, size - i - 1);
+                    threads[--size] = null;
+                    return;
+                }
+            }
         }
     }
 }
@@ -0,0 +1,161 @@
+package net.minestom.server.thread;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor running at most {@link #concurrency()} tasks at once, queuing the others.
+ * <p>
+ * Tasks are run on virtual threads when requested and supported by the runtime (Java 21+),
+ * on dedicated daemon platform threads otherwise.
+ */
+@ApiStatus.Experimental
+public final class BoundedExecutor implements Executor {
+    private final String name;
+    private final int concurrency;
+    private final boolean virtual;
+    private final Executor delegate;
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicInteger runningTasks = new AtomicInteger();
+    private final AtomicLong completedTasks = new AtomicLong();
+    // Number of threads currently draining the queue
+    private final AtomicInteger runners = new AtomicInteger();
+
+    private BoundedExecutor(String name, int concurrency, boolean virtual) {
+        if (concurrency <= 0) throw new IllegalArgumentException("Concurrency must be positive");
+        this.name = name;
+        this.concurrency = concurrency;
+        final ThreadFactory virtualFactory = virtual ? virtualThreadFactory(name) : null;
+        this.virtual = virtualFactory != null;
+        if (virtualFactory != null) {
+            this.delegate = runnable -> virtualFactory.newThread(runnable).start();
+        } else {
+            // Idle platform threads are kept for a while to be reused by the next burst
+            final AtomicInteger counter = new AtomicInteger();
+            this.delegate = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, name + "-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Creates a new bounded executor.
+     *
+     * @param name        the name prefix of the executor threads
+     * @param concurrency the maximum number of tasks running at once
+     * @param virtual     true to use virtual threads when available
+     * @return a new executor
+     */
+    public static @NotNull BoundedExecutor create(@NotNull String name, int concurrency, boolean virtual) {
+        return new BoundedExecutor(name, concurrency, virtual);
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        this.queue.offer(command);
+        this.queuedTasks.incrementAndGet();
+        trySpawnRunner();
+    }
+
+    public @NotNull String name() {
+        return name;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Gets if tasks are executed on virtual threads.
+     *
+     * @return true if virtual threads are used
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Gets the number of tasks waiting for a free slot.
+     *
+     * @return the queue depth
+     */
+    public int queuedTasks() {
+        return queuedTasks.get();
+    }
+
+    public int runningTasks() {
+        return runningTasks.get();
+    }
+
+    public long completedTasks() {
+        return completedTasks.get();
+    }
+
+    /**
+     * Starts at most one runner, each queued task spawning its own runner while below the concurrency.
+     */
+    private void trySpawnRunner() {
+        while (!queue.isEmpty()) {
+            final int current = runners.get();
+            if (current >= concurrency) return;
+            if (runners.compareAndSet(current, current + 1)) {
+                try {
+                    this.delegate.execute(this::drain);
+                } catch (Throwable t) {
+                    this.runners.decrementAndGet();
+                    throw t;
+                }
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                this.queuedTasks.decrementAndGet();
+                this.runningTasks.incrementAndGet();
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    MinecraftServer.getExceptionManager().handleException(t);
+                } finally {
+                    this.runningTasks.decrementAndGet();
+                    this.completedTasks.incrementAndGet();
+                }
+            }
+        } finally {
+            this.runners.decrementAndGet();
+        }
+        // A task may have been queued after the last poll
+        trySpawnRunner();
+    }
+
+    private static ThreadFactory virtualThreadFactory(String name) {
+        try {
+            // Thread.ofVirtual().name(name, 0).factory(), only available on Java 21+
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+            final Method factoryMethod = builderClass.getMethod("factory");
+            return (ThreadFactory) factoryMethod.invoke(nameMethod.invoke(builder, name + "-", 0L));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
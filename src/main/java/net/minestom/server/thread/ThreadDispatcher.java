@@ -16,6 +16,13 @@ import java.util.concurrent.CountDownLatch;
  * Then executed into a thread pool.
  */
 public final class ThreadDispatcher<P> {
+    // Minimum makespan difference (in nanoseconds) before migrating partitions
+    private static final long REBALANCE_MIN_GAP = Long.getLong("minestom.dispatcher.rebalance-min-gap", 100_000L);
+    // Minimum makespan difference relative to the most loaded thread
+    private static final double REBALANCE_THRESHOLD = 0.1;
+    // Number of refreshes during which a migrated partition cannot move again
+    private static final int REBALANCE_COOLDOWN = Integer.getInteger("minestom.dispatcher.rebalance-cooldown", 20);
+
     private final ThreadProvider<P> provider;
     private final List<TickThread> threads;
 
@@ -81,13 +88,57 @@ public final class ThreadDispatcher<P> {
         }
     }
 
+    /**
+     * Gets the timings of every partition measured during the last tick.
+     * <p>
+     * Blocks until the current tick is over if called during {@link #updateAndAwait(long)}.
+     *
+     * @return a snapshot of the partitions timings
+     */
+    public synchronized @NotNull List<@NotNull PartitionTimings<P>> partitionTimings() {
+        List<PartitionTimings<P>> result = new ArrayList<>(partitions.size());
+        for (Map.Entry<P, Partition> entry : partitions.entrySet()) {
+            final Partition partition = entry.getValue();
+            result.add(new PartitionTimings<>(entry.getKey(), partition.thread,
+                    partition.tickTime, partition.averageTickTime, partition.entityTickTime,
+                    partition.elements.size(), partition.entityCount));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the timings of every {@link TickThread} measured during the last tick.
+     * <p>
+     * Blocks until the current tick is over if called during {@link #updateAndAwait(long)}.
+     *
+     * @return a snapshot of the threads timings, in the same order as {@link #threads()}
+     */
+    public synchronized @NotNull List<@NotNull ThreadTimings> threadTimings() {
+        ThreadTimings[] result = new ThreadTimings[threads.size()];
+        for (int i = 0; i < result.length; i++) {
+            final TickThread thread = threads.get(i);
+            long entityTickTime = 0;
+            int elementCount = 0, entityCount = 0;
+            for (Partition partition : thread.entries()) {
+                entityTickTime += partition.entityTickTime;
+                elementCount += partition.elements.size();
+                entityCount += partition.entityCount;
+            }
+            result[i] = new ThreadTimings(thread, thread.lastTickDuration(), entityTickTime,
+                    thread.entries().size(), elementCount, entityCount);
+        }
+        return List.of(result);
+    }
+
     /**
      * Called at the end of each tick to clear removed entities,
      * refresh the chunk linked to an entity, and chunk threads based on {@link ThreadProvider#findThread(Object)}.
+     * <p>
+     * Synchronized with the timings snapshots, which read the partitions of each thread.
      *
      * @param nanoTimeout max time in nanoseconds to update partitions
      */
-    public void refreshThreads(long nanoTimeout) {
+    public synchronized void refreshThreads(long nanoTimeout) {
         switch (provider.refreshType()) {
             case NEVER -> {
                 // Do nothing
@@ -101,19 +152,14 @@ public final class ThreadDispatcher<P> {
                     // Update chunk's thread
                     Partition partitionEntry = partitions.get(partition);
                     assert partitionEntry != null;
-                    final TickThread previous = partitionEntry.thread;
-                    final TickThread next = retrieveThread(partition);
-                    if (next != previous) {
-                        partitionEntry.thread = next;
-                        previous.entries().remove(partitionEntry);
-                        next.entries().add(partitionEntry);
-                    }
+                    migratePartition(partitionEntry, retrieveThread(partition));
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
                 }
             }
+            case BALANCED -> rebalance(nanoTimeout);
         }
     }
 
@@ -146,6 +192,68 @@ public final class ThreadDispatcher<P> {
         this.threads.forEach(TickThread::shutdown);
     }
 
+    /**
+     * Migrates partitions from the most loaded thread to the least loaded one,
+     * based on the measured tick time of each partition.
+     * <p>
+     * A partition only moves if it reduces the makespan (the slowest thread tick time),
+     * and cannot move again until {@link #REBALANCE_COOLDOWN} refreshes happened.
+     */
+    private void rebalance(long nanoTimeout) {
+        final long currentTime = System.nanoTime();
+        final List<TickThread> threads = this.threads;
+        final int threadCount = threads.size();
+        if (threadCount < 2) return;
+        long[] loads = new long[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            for (Partition partition : threads.get(i).entries()) {
+                if (partition.cooldown > 0) partition.cooldown--;
+                loads[i] += partition.averageTickTime;
+            }
+        }
+        for (int iteration = 0; iteration < threadCount; iteration++) {
+            int max = 0, min = 0;
+            for (int i = 1; i < threadCount; i++) {
+                if (loads[i] > loads[max]) max = i;
+                if (loads[i] < loads[min]) min = i;
+            }
+            final long gap = loads[max] - loads[min];
+            if (gap <= Math.max(REBALANCE_MIN_GAP, (long) (loads[max] * REBALANCE_THRESHOLD))) break;
+            // Find the partition closest to half the gap, any partition cheaper than the gap reduces the makespan
+            final long target = gap / 2;
+            Partition candidate = null;
+            long candidateDistance = Long.MAX_VALUE;
+            for (Partition partition : threads.get(max).entries()) {
+                final long cost = partition.averageTickTime;
+                if (partition.cooldown > 0 || cost <= 0 || cost >= gap) continue;
+                final long distance = Math.abs(target - cost);
+                if (distance < candidateDistance) {
+                    candidate = partition;
+                    candidateDistance = distance;
+                }
+            }
+            if (candidate == null) break;
+            migratePartition(candidate, threads.get(min));
+            candidate.cooldown = REBALANCE_COOLDOWN;
+            loads[max] -= candidate.averageTickTime;
+            loads[min] += candidate.averageTickTime;
+            if (System.nanoTime() - currentTime >= nanoTimeout) break;
+        }
+    }
+
+    private void migratePartition(Partition partitionEntry, TickThread next) {
+        final TickThread previous = partitionEntry.thread;
+        if (next == previous) return;
+        partitionEntry.thread = next;
+        previous.entries().remove(partitionEntry);
+        next.entries().add(partitionEntry);
+        for (Tickable element : partitionEntry.elements) {
+            if (element instanceof Entity entity) { // TODO support other types
+                ((AcquirableImpl<?>) entity.getAcquirable()).updateThread(next);
+            }
+        }
+    }
+
     private TickThread retrieveThread(P partition) {
         final int threadId = provider.findThread(partition);
         final int index = Math.abs(threadId) % threads.size();
@@ -210,6 +318,14 @@ public final class ThreadDispatcher<P> {
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
 
+        // Written by the owning thread during its tick, read once the tick is over
+        private long tickTime;
+        private long averageTickTime;
+        private long entityTickTime;
+        private int entityCount;
+        // Only used by the dispatcher
+        private int cooldown;
+
         private Partition(TickThread thread) {
             this.thread = thread;
         }
@@ -221,6 +337,81 @@ public final class ThreadDispatcher<P> {
         public @NotNull List<Tickable> elements() {
             return elements;
         }
+
+        /**
+         * Gets the time spent ticking this partition elements during the last tick.
+         *
+         * @return the last tick time in nanoseconds
+         */
+        public long tickTime() {
+            return tickTime;
+        }
+
+        /**
+         * Gets the smoothed time spent ticking this partition elements.
+         *
+         * @return the average tick time in nanoseconds
+         */
+        public long averageTickTime() {
+            return averageTickTime;
+        }
+
+        /**
+         * Gets the part of {@link #tickTime()} spent ticking entities,
+         * the remaining being chunks and other elements.
+         *
+         * @return the last entity tick time in nanoseconds
+         */
+        public long entityTickTime() {
+            return entityTickTime;
+        }
+
+        /**
+         * Gets the number of entities ticked during the last tick.
+         *
+         * @return the last entity count
+         */
+        public int entityCount() {
+            return entityCount;
+        }
+
+        void recordTick(long tickTime, long entityTickTime, int entityCount) {
+            this.tickTime = tickTime;
+            this.entityTickTime = entityTickTime;
+            this.entityCount = entityCount;
+            // Exponential moving average, prevent a single spike from triggering migrations
+            this.averageTickTime += (tickTime - averageTickTime) >> 3;
+        }
+    }
+
+    /**
+     * Timings of a partition during the last tick.
+     *
+     * @param partition       the partition
+     * @param thread          the thread ticking the partition
+     * @param tickTime        the time spent ticking the partition elements, in nanoseconds
+     * @param averageTickTime the smoothed tick time, in nanoseconds
+     * @param entityTickTime  the part of {@code tickTime} spent ticking entities, in nanoseconds
+     * @param elementCount    the number of elements (entities, chunks, etc.) in the partition
+     * @param entityCount     the number of ticked entities
+     */
+    public record PartitionTimings<P>(@NotNull P partition, @NotNull TickThread thread,
+                                      long tickTime, long averageTickTime, long entityTickTime,
+                                      int elementCount, int entityCount) {
+    }
+
+    /**
+     * Timings of a {@link TickThread} during the last tick.
+     *
+     * @param thread         the thread
+     * @param tickTime       the thread tick duration (including acquisitions), in nanoseconds
+     * @param entityTickTime the time spent ticking entities, in nanoseconds
+     * @param partitionCount the number of partitions owned by the thread
+     * @param elementCount   the number of elements (entities, chunks, etc.) owned by the thread
+     * @param entityCount    the number of ticked entities
+     */
+    public record ThreadTimings(@NotNull TickThread thread, long tickTime, long entityTickTime,
+                                int partitionCount, int elementCount, int entityCount) {
     }
 
     @ApiStatus.Internal
@@ -19,6 +19,27 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Creates a provider dispatching new partitions in a round-robin fashion,
+     * then migrating them between threads based on their tick time.
+     *
+     * @see RefreshType#BALANCED
+     */
+    static <T> @NotNull ThreadProvider<T> balanced() {
+        final ThreadProvider<T> counter = counter();
+        return new ThreadProvider<>() {
+            @Override
+            public int findThread(@NotNull T partition) {
+                return counter.findThread(partition);
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -50,6 +71,14 @@ public interface ThreadProvider<T> {
          * <p>
          * Means that {@link #findThread(Object)} may be called multiple time for each partition.
          */
-        ALWAYS
+        ALWAYS,
+        /**
+         * Thread is updated based on the measured tick time of each partition,
+         * moving partitions from the slowest thread to the fastest one.
+         * <p>
+         * Means that {@link #findThread(Object)} will only be called once for each partition,
+         * to define its initial thread.
+         */
+        BALANCED
     }
 }
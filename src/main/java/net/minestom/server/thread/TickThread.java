@@ -4,6 +4,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.Chunk;
+import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -12,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -22,12 +24,20 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 @ApiStatus.Internal
 public final class TickThread extends MinestomThread {
+    private static final AtomicLong ORDER_COUNTER = new AtomicLong();
+
     private final ReentrantLock lock = new ReentrantLock();
+    // Unique order in which thread locks are acquired, see AcquirableImpl
+    private final long order = ORDER_COUNTER.getAndIncrement();
+    private final AcquirableImpl.HeldLocks heldLocks = new AcquirableImpl.HeldLocks();
+    // Actions scheduled by other threads, executed at the start of the tick
+    private final MpscUnboundedArrayQueue<Runnable> inbox = new MpscUnboundedArrayQueue<>(64);
     private volatile boolean stop;
 
     private CountDownLatch latch;
     private long tickTime;
     private long tickNum = 0;
+    private long lastTickDuration;
     private final List<ThreadDispatcher.Partition> entries = new ArrayList<>();
 
     public TickThread(int number) {
@@ -44,6 +54,7 @@ public final class TickThread extends MinestomThread {
     public void run() {
         LockSupport.park(this);
         while (!stop) {
+            final long start = System.nanoTime();
             this.lock.lock();
             try {
                 tick();
@@ -51,6 +62,7 @@ public final class TickThread extends MinestomThread {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
             this.lock.unlock();
+            this.lastTickDuration = System.nanoTime() - start;
             // #acquire() callbacks
             this.latch.countDown();
             LockSupport.park(this);
@@ -60,10 +72,26 @@ public final class TickThread extends MinestomThread {
     private void tick() {
         final ReentrantLock lock = this.lock;
         final long tickTime = this.tickTime;
+        if (!inbox.isEmpty()) {
+            this.inbox.drain(action -> {
+                try {
+                    action.run();
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            });
+        }
         for (ThreadDispatcher.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
+            if (elements.isEmpty()) {
+                entry.recordTick(0, 0, 0);
+                continue;
+            }
+            final long start = System.nanoTime();
+            long last = start;
+            long entityTickTime = 0;
+            int entityCount = 0;
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
                     lock.unlock();
@@ -75,13 +103,22 @@ public final class TickThread extends MinestomThread {
                 } catch (Throwable e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
+                // Chain timestamps, a single clock read per element
+                final long now = System.nanoTime();
+                if (element instanceof Entity) {
+                    entityTickTime += now - last;
+                    entityCount++;
+                }
+                last = now;
             }
+            entry.recordTick(last - start, entityTickTime, entityCount);
         }
     }
 
     void startTick(CountDownLatch latch, long tickTime) {
-        if (entries.isEmpty()) {
+        if (entries.isEmpty() && inbox.isEmpty()) {
             // Nothing to tick
+            this.lastTickDuration = 0;
             latch.countDown();
             return;
         }
@@ -105,10 +142,38 @@ public final class TickThread extends MinestomThread {
         return lock;
     }
 
+    /**
+     * Schedules an action to be executed by this thread at the start of its next tick.
+     *
+     * @param action the action to execute
+     */
+    void schedule(@NotNull Runnable action) {
+        this.inbox.offer(action);
+    }
+
+    long order() {
+        return order;
+    }
+
+    AcquirableImpl.HeldLocks heldLocks() {
+        return heldLocks;
+    }
+
     public long getTick() {
         return tickNum;
     }
 
+    /**
+     * Gets the duration of the last tick, including the time spent waiting for acquisitions.
+     * <p>
+     * Should only be read between ticks.
+     *
+     * @return the last tick duration in nanoseconds
+     */
+    public long lastTickDuration() {
+        return lastTickDuration;
+    }
+
     void shutdown() {
         this.stop = true;
         LockSupport.unpark(this);
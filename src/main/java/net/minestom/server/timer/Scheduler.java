@@ -1,7 +1,10 @@
 package net.minestom.server.timer;
 
+import net.minestom.server.thread.BoundedExecutor;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -11,8 +14,37 @@ import java.util.function.Supplier;
  * Tasks are by default executed in the caller thread.
  */
 public sealed interface Scheduler permits SchedulerImpl, SchedulerManager {
+    /**
+     * Creates a new scheduler using the backend defined by the {@code minestom.scheduler.backend} property
+     * ({@link Backend#SORTED} by default).
+     *
+     * @return a new scheduler
+     */
     static @NotNull Scheduler newScheduler() {
-        return new SchedulerImpl();
+        return newScheduler(SchedulerImpl.DEFAULT_BACKEND);
+    }
+
+    /**
+     * Creates a new scheduler storing delayed tasks using {@code backend}.
+     *
+     * @param backend the storage of delayed tasks
+     * @return a new scheduler
+     */
+    static @NotNull Scheduler newScheduler(@NotNull Backend backend) {
+        return new SchedulerImpl(backend);
+    }
+
+    /**
+     * Gets the executor shared by all schedulers to run {@link ExecutionType#ASYNC} tasks.
+     * <p>
+     * Uses virtual threads when available (can be disabled with {@code minestom.scheduler.async-virtual}),
+     * and runs at most {@code minestom.scheduler.async-concurrency} tasks at once.
+     *
+     * @return the default async executor
+     */
+    @ApiStatus.Experimental
+    static @NotNull BoundedExecutor defaultAsyncExecutor() {
+        return SchedulerImpl.DEFAULT_ASYNC_EXECUTOR;
     }
 
     /**
@@ -42,6 +74,27 @@ public sealed interface Scheduler permits SchedulerImpl, SchedulerManager {
      */
     @NotNull Task submitTask(@NotNull Supplier<TaskSchedule> task, @NotNull ExecutionType executionType);
 
+    /**
+     * Changes the executor running the {@link ExecutionType#ASYNC} tasks of this scheduler.
+     * <p>
+     * Uses {@link #defaultAsyncExecutor()} by default.
+     *
+     * @param executor the new async executor
+     */
+    @ApiStatus.Experimental
+    void setAsyncExecutor(@NotNull Executor executor);
+
+    @ApiStatus.Experimental
+    @NotNull Executor getAsyncExecutor();
+
+    /**
+     * Gets the counters of the {@link ExecutionType#ASYNC} tasks submitted by this scheduler.
+     *
+     * @return a snapshot of the async counters
+     */
+    @ApiStatus.Experimental
+    @NotNull AsyncMetrics asyncMetrics();
+
     default @NotNull Task submitTask(@NotNull Supplier<TaskSchedule> task) {
         return submitTask(task, ExecutionType.SYNC);
     }
@@ -75,4 +128,32 @@ public sealed interface Scheduler permits SchedulerImpl, SchedulerManager {
     default @NotNull Task scheduleNextProcess(@NotNull Runnable task) {
         return scheduleNextProcess(task, ExecutionType.SYNC);
     }
+
+    /**
+     * Async task counters of a scheduler.
+     *
+     * @param queuedTasks    the number of tasks waiting for the executor
+     * @param runningTasks   the number of tasks currently running
+     * @param completedTasks the number of task executions since the scheduler creation
+     * @param runTimeNanos   the total execution time of the completed tasks, in nanoseconds
+     */
+    record AsyncMetrics(int queuedTasks, int runningTasks, long completedTasks, long runTimeNanos) {
+    }
+
+    /**
+     * Storage used for tasks delayed by ticks or durations.
+     */
+    enum Backend {
+        /**
+         * Tick tasks are kept sorted by target tick, duration tasks are handled by a shared JDK scheduler.
+         */
+        SORTED,
+        /**
+         * Tick and synchronous duration tasks are stored in timing wheels owned by the scheduler,
+         * with constant time insertion and expiration and no locking.
+         * <p>
+         * Suited to many schedulers (e.g. one per entity) each holding repeating tasks.
+         */
+        TIMING_WHEEL
+    }
 }
@@ -1,33 +1,51 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
+import net.minestom.server.thread.BoundedExecutor;
+import net.minestom.server.utils.PropertyUtils;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
+    static final Backend DEFAULT_BACKEND = Backend.valueOf(System.getProperty("minestom.scheduler.backend",
+            Backend.SORTED.name()).toUpperCase(Locale.ROOT));
+
     private static final AtomicInteger TASK_COUNTER = new AtomicInteger();
-    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+    static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
         Thread thread = new Thread(r);
         thread.setDaemon(true);
         return thread;
     });
-    private static final ForkJoinPool EXECUTOR = ForkJoinPool.commonPool();
+    private static final int ASYNC_EXECUTOR_CONCURRENCY = Integer.getInteger("minestom.scheduler.async-concurrency",
+            Runtime.getRuntime().availableProcessors() * 2);
+    private static final boolean ASYNC_EXECUTOR_VIRTUAL = PropertyUtils.getBoolean("minestom.scheduler.async-virtual", true);
+    static final BoundedExecutor DEFAULT_ASYNC_EXECUTOR = BoundedExecutor.create("Ms-scheduler",
+            ASYNC_EXECUTOR_CONCURRENCY, ASYNC_EXECUTOR_VIRTUAL);
 
     private final MpscUnboundedArrayQueue<TaskImpl> taskQueue = new MpscUnboundedArrayQueue<>(64);
-    // Tasks scheduled on a certain tick
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickTaskQueue = new Int2ObjectAVLTreeMap<>();
+    // Tasks scheduled on a certain tick or after a duration
+    private final TaskQueue scheduledTasks;
+
+    private volatile Executor asyncExecutor = DEFAULT_ASYNC_EXECUTOR;
+    private final AtomicInteger asyncQueued = new AtomicInteger();
+    private final AtomicInteger asyncRunning = new AtomicInteger();
+    private final LongAdder asyncCompleted = new LongAdder();
+    private final LongAdder asyncRunTime = new LongAdder();
 
-    private int tickState;
+    SchedulerImpl(@NotNull Backend backend) {
+        this.scheduledTasks = switch (backend) {
+            case SORTED -> new SortedTaskQueue(this);
+            case TIMING_WHEEL -> new WheelTaskQueue(this);
+        };
+    }
 
     @Override
     public void process() {
@@ -40,21 +58,14 @@ final class SchedulerImpl implements Scheduler {
     }
 
     private void processTick(int tickDelta) {
-        synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!tickTaskQueue.isEmpty() && (tickToProcess = tickTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = tickTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(taskQueue::relaxedOffer);
-            }
-        }
+        this.scheduledTasks.process(tickDelta, taskQueue::relaxedOffer);
         // Run all tasks lock-free, either in the current thread or pool
         if (!taskQueue.isEmpty()) {
             this.taskQueue.drain(task -> {
                 if (!task.isAlive()) return;
                 switch (task.executionType()) {
                     case SYNC -> handleTask(task);
-                    case ASYNC -> EXECUTOR.submit(() -> handleTask(task));
+                    case ASYNC -> executeAsync(task);
                 }
             });
         }
@@ -74,17 +85,50 @@ final class SchedulerImpl implements Scheduler {
             this.taskQueue.relaxedOffer(task);
     }
 
-    private void safeExecute(TaskImpl task) {
+    void safeExecute(TaskImpl task) {
         // Prevent the task from being executed in the current thread
         // By either adding the task to the execution queue or submitting it to the pool
         switch (task.executionType()) {
             case SYNC -> taskQueue.offer(task);
-            case ASYNC -> EXECUTOR.submit(() -> {
-                if (!task.isAlive()) {
-                    return;
+            case ASYNC -> executeAsync(task);
+        }
+    }
+
+    @Override
+    public void setAsyncExecutor(@NotNull Executor executor) {
+        this.asyncExecutor = executor;
+    }
+
+    @Override
+    public @NotNull Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    @Override
+    public @NotNull AsyncMetrics asyncMetrics() {
+        return new AsyncMetrics(asyncQueued.get(), asyncRunning.get(),
+                asyncCompleted.sum(), asyncRunTime.sum());
+    }
+
+    private void executeAsync(TaskImpl task) {
+        this.asyncQueued.incrementAndGet();
+        try {
+            this.asyncExecutor.execute(() -> {
+                this.asyncQueued.decrementAndGet();
+                if (!task.isAlive()) return;
+                this.asyncRunning.incrementAndGet();
+                final long start = System.nanoTime();
+                try {
+                    handleTask(task);
+                } finally {
+                    this.asyncRunTime.add(System.nanoTime() - start);
+                    this.asyncRunning.decrementAndGet();
+                    this.asyncCompleted.increment();
                 }
-                handleTask(task);
             });
+        } catch (Throwable t) {
+            this.asyncQueued.decrementAndGet();
+            throw t;
         }
     }
 
@@ -92,12 +136,9 @@ final class SchedulerImpl implements Scheduler {
         final TaskSchedule schedule = task.task().get();
         if (schedule instanceof TaskScheduleImpl.DurationSchedule durationSchedule) {
             final Duration duration = durationSchedule.duration();
-            SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+            this.scheduledTasks.scheduleDuration(task, duration);
         } else if (schedule instanceof TaskScheduleImpl.TickSchedule tickSchedule) {
-            synchronized (this) {
-                final int target = tickState + tickSchedule.tick();
-                this.tickTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
-            }
+            this.scheduledTasks.scheduleTicks(task, tickSchedule.tick());
         } else if (schedule instanceof TaskScheduleImpl.FutureSchedule futureSchedule) {
             futureSchedule.future().thenRun(() -> safeExecute(task));
         } else if (schedule instanceof TaskScheduleImpl.Park) {
@@ -3,6 +3,7 @@ package net.minestom.server.timer;
 import org.jctools.queues.MpmcUnboundedXaddArrayQueue;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 public final class SchedulerManager implements Scheduler {
@@ -25,6 +26,21 @@ public final class SchedulerManager implements Scheduler {
         return scheduler.submitTask(task, executionType);
     }
 
+    @Override
+    public void setAsyncExecutor(@NotNull Executor executor) {
+        this.scheduler.setAsyncExecutor(executor);
+    }
+
+    @Override
+    public @NotNull Executor getAsyncExecutor() {
+        return scheduler.getAsyncExecutor();
+    }
+
+    @Override
+    public @NotNull AsyncMetrics asyncMetrics() {
+        return scheduler.asyncMetrics();
+    }
+
     public void shutdown() {
         this.shutdownTasks.drain(Runnable::run);
     }
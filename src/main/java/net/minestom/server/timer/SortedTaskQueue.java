@@ -0,0 +1,45 @@
+package net.minestom.server.timer;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Keeps tick tasks sorted by target tick, duration tasks are handled by {@link SchedulerImpl#SCHEDULER}.
+ */
+final class SortedTaskQueue implements TaskQueue {
+    private final SchedulerImpl owner;
+    // Tasks scheduled on a certain tick
+    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickTaskQueue = new Int2ObjectAVLTreeMap<>();
+
+    private int tickState;
+
+    SortedTaskQueue(SchedulerImpl owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public synchronized void scheduleTicks(TaskImpl task, int ticks) {
+        final int target = tickState + ticks;
+        this.tickTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
+    }
+
+    @Override
+    public void scheduleDuration(TaskImpl task, Duration duration) {
+        SchedulerImpl.SCHEDULER.schedule(() -> owner.safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void process(int tickDelta, Consumer<TaskImpl> expired) {
+        this.tickState += tickDelta;
+        int tickToProcess;
+        while (!tickTaskQueue.isEmpty() && (tickToProcess = tickTaskQueue.firstIntKey()) <= tickState) {
+            final List<TaskImpl> tickScheduledTasks = tickTaskQueue.remove(tickToProcess);
+            if (tickScheduledTasks != null) tickScheduledTasks.forEach(expired);
+        }
+    }
+}
@@ -25,6 +25,8 @@ final class TaskImpl implements Task {
 
     volatile boolean alive;
     volatile boolean parked;
+    // Target tick or time, used by the timing wheel backend
+    long deadline;
 
     TaskImpl(int id,
              @NotNull Supplier<TaskSchedule> task,
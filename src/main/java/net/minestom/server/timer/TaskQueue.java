@@ -0,0 +1,31 @@
+package net.minestom.server.timer;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Storage of the delayed tasks of a {@link SchedulerImpl}, see {@link Scheduler.Backend}.
+ */
+sealed interface TaskQueue permits SortedTaskQueue, WheelTaskQueue {
+    /**
+     * Schedules a task to be executed after a number of ticks.
+     * <p>
+     * Can be called from any thread.
+     */
+    void scheduleTicks(TaskImpl task, int ticks);
+
+    /**
+     * Schedules a task to be executed after a duration.
+     * <p>
+     * Can be called from any thread.
+     */
+    void scheduleDuration(TaskImpl task, Duration duration);
+
+    /**
+     * Advances the queue, giving the tasks ready to be executed to {@code expired}.
+     *
+     * @param tickDelta the number of ticks elapsed since the last call
+     * @param expired   consumer of the expired tasks
+     */
+    void process(int tickDelta, Consumer<TaskImpl> expired);
+}
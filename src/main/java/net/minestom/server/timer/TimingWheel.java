@@ -0,0 +1,177 @@
+package net.minestom.server.timer;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel with an overflow level, deadlines are expressed in an arbitrary unit (ticks or milliseconds).
+ * <p>
+ * Tasks due within {@link #SLOTS} units are stored in the slot of their deadline, others wait in the overflow bucket
+ * and are moved to the wheel once per rotation. Inserting is O(1), and advancing is O(1) per elapsed unit
+ * plus the expired tasks.
+ * <p>
+ * Buckets are only allocated for slots holding tasks, and returned to a small free list once emptied,
+ * so an idle wheel only costs its slot array.
+ * <p>
+ * Not thread-safe, only accessed by the thread processing the owning scheduler.
+ */
+final class TimingWheel {
+    static final int SLOTS = 256;
+    private static final int MASK = SLOTS - 1;
+    private static final int MAX_FREE_BUCKETS = 8;
+
+    // Null for empty slots
+    private final Bucket[] slots = new Bucket[SLOTS];
+    private final Bucket[] freeBuckets = new Bucket[MAX_FREE_BUCKETS];
+    private int freeCount;
+    private Bucket overflow;
+    // Number of tasks stored in the slots and overflow
+    private int size;
+    private long current;
+
+    TimingWheel(long start) {
+        this.current = start;
+    }
+
+    /**
+     * Schedules a task.
+     *
+     * @param task     the task
+     * @param deadline the time at which the task should expire
+     * @return false if the deadline has already been reached, in which case the task is not scheduled
+     */
+    boolean schedule(TaskImpl task, long deadline) {
+        final long delay = deadline - current;
+        if (delay <= 0) return false;
+        if (delay < SLOTS) {
+            addToSlot(task, deadline);
+        } else {
+            Bucket overflow = this.overflow;
+            if (overflow == null) this.overflow = overflow = acquireBucket();
+            overflow.add(task, deadline);
+        }
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Advances the wheel, expiring all the tasks with a deadline lower or equal to {@code time}.
+     *
+     * @param time    the new current time
+     * @param expired consumer of the expired tasks
+     */
+    void advance(long time, Consumer<TaskImpl> expired) {
+        final long current = this.current;
+        if (time <= current) return;
+        if (size == 0) {
+            this.current = time;
+            return;
+        }
+        // Each slot needs to be visited at most once
+        final long last = Math.min(time, current + SLOTS);
+        for (long t = current + 1; t <= last; t++) {
+            final int index = (int) (t & MASK);
+            if (index == 0) cascade(t, time, expired);
+            final Bucket bucket = slots[index];
+            if (bucket == null) continue;
+            this.size -= bucket.expire(time, expired);
+            if (bucket.size == 0) {
+                slots[index] = null;
+                releaseBucket(bucket);
+            }
+        }
+        this.current = time;
+        if (last != time) cascade(time, time, expired);
+    }
+
+    /**
+     * Moves the overflow tasks due within the next rotation (starting at {@code rotation}) to the wheel.
+     */
+    private void cascade(long rotation, long time, Consumer<TaskImpl> expired) {
+        final Bucket overflow = this.overflow;
+        if (overflow == null) return;
+        int kept = 0;
+        for (int i = 0; i < overflow.size; i++) {
+            final TaskImpl task = overflow.tasks[i];
+            final long deadline = overflow.deadlines[i];
+            if (deadline <= time) {
+                expired.accept(task);
+                this.size--;
+            } else if (deadline - rotation < SLOTS) {
+                addToSlot(task, deadline);
+            } else {
+                overflow.tasks[kept] = task;
+                overflow.deadlines[kept++] = deadline;
+            }
+        }
+        Arrays.fill(overflow.tasks, kept, overflow.size, null);
+        overflow.size = kept;
+        if (kept == 0) {
+            this.overflow = null;
+            releaseBucket(overflow);
+        }
+    }
+
+    private void addToSlot(TaskImpl task, long deadline) {
+        final int index = (int) (deadline & MASK);
+        Bucket bucket = slots[index];
+        if (bucket == null) slots[index] = bucket = acquireBucket();
+        bucket.add(task, deadline);
+    }
+
+    private Bucket acquireBucket() {
+        final int count = this.freeCount;
+        if (count == 0) return new Bucket();
+        final Bucket bucket = freeBuckets[count - 1];
+        freeBuckets[count - 1] = null;
+        this.freeCount = count - 1;
+        return bucket;
+    }
+
+    private void releaseBucket(Bucket bucket) {
+        // Buckets grown by a burst of tasks are left to the GC
+        if (freeCount == MAX_FREE_BUCKETS || bucket.tasks.length > Bucket.INITIAL_CAPACITY) return;
+        freeBuckets[freeCount++] = bucket;
+    }
+
+    private static final class Bucket {
+        static final int INITIAL_CAPACITY = 4;
+
+        TaskImpl[] tasks = new TaskImpl[INITIAL_CAPACITY];
+        long[] deadlines = new long[INITIAL_CAPACITY];
+        int size;
+
+        void add(TaskImpl task, long deadline) {
+            if (size == tasks.length) {
+                this.tasks = Arrays.copyOf(tasks, size * 2);
+                this.deadlines = Arrays.copyOf(deadlines, size * 2);
+            }
+            this.tasks[size] = task;
+            this.deadlines[size++] = deadline;
+        }
+
+        /**
+         * @return the number of expired tasks
+         */
+        int expire(long time, Consumer<TaskImpl> expired) {
+            final int size = this.size;
+            if (size == 0) return 0;
+            final TaskImpl[] tasks = this.tasks;
+            final long[] deadlines = this.deadlines;
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                final TaskImpl task = tasks[i];
+                final long deadline = deadlines[i];
+                if (deadline <= time) {
+                    expired.accept(task);
+                } else {
+                    tasks[kept] = task;
+                    deadlines[kept++] = deadline;
+                }
+            }
+            Arrays.fill(tasks, kept, size, null);
+            this.size = kept;
+            return size - kept;
+        }
+    }
+}
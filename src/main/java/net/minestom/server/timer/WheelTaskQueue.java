@@ -0,0 +1,71 @@
+package net.minestom.server.timer;
+
+import org.jctools.queues.MpscUnboundedArrayQueue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Stores tick and synchronous duration tasks in {@link TimingWheel timing wheels}.
+ * <p>
+ * Tasks can be scheduled from any thread, they are first added to a lock-free inbox
+ * and only inserted in the wheels by the thread processing the scheduler.
+ * Asynchronous duration tasks are still handled by {@link SchedulerImpl#SCHEDULER}
+ * as they must run without waiting for the scheduler to be processed.
+ */
+final class WheelTaskQueue implements TaskQueue {
+    private final SchedulerImpl owner;
+    private final MpscUnboundedArrayQueue<TaskImpl> tickInbox = new MpscUnboundedArrayQueue<>(64);
+    private final MpscUnboundedArrayQueue<TaskImpl> timeInbox = new MpscUnboundedArrayQueue<>(64);
+    private final TimingWheel tickWheel = new TimingWheel(0);
+    private final TimingWheel timeWheel = new TimingWheel(currentMillis());
+
+    private volatile long tick;
+
+    WheelTaskQueue(SchedulerImpl owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public void scheduleTicks(TaskImpl task, int ticks) {
+        // Published by the queue
+        task.deadline = tick + ticks;
+        this.tickInbox.offer(task);
+    }
+
+    @Override
+    public void scheduleDuration(TaskImpl task, Duration duration) {
+        if (task.executionType() == ExecutionType.ASYNC) {
+            SchedulerImpl.SCHEDULER.schedule(() -> owner.safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+            return;
+        }
+        task.deadline = currentMillis() + duration.toMillis();
+        this.timeInbox.offer(task);
+    }
+
+    @Override
+    public void process(int tickDelta, Consumer<TaskImpl> expired) {
+        final long tick = this.tick + tickDelta;
+        this.tick = tick;
+        final TimingWheel tickWheel = this.tickWheel;
+        if (!tickInbox.isEmpty()) {
+            this.tickInbox.drain(task -> {
+                if (!tickWheel.schedule(task, task.deadline)) expired.accept(task);
+            });
+        }
+        tickWheel.advance(tick, expired);
+
+        final TimingWheel timeWheel = this.timeWheel;
+        if (!timeInbox.isEmpty()) {
+            this.timeInbox.drain(task -> {
+                if (!timeWheel.schedule(task, task.deadline)) expired.accept(task);
+            });
+        }
+        timeWheel.advance(currentMillis(), expired);
+    }
+
+    private static long currentMillis() {
+        return System.nanoTime() / 1_000_000L;
+    }
+}
@@ -22,6 +22,7 @@ import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.*;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.network.socket.Server;
 import net.minestom.server.utils.binary.BinaryBuffer;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -47,6 +48,8 @@ import java.util.zip.Inflater;
  */
 public final class PacketUtils {
     private static final ThreadLocal<Deflater> LOCAL_DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    // Network workers are long-lived, the inflater (and its native zlib state) is therefore reused per worker
+    private static final ThreadLocal<Inflater> LOCAL_INFLATER = ThreadLocal.withInitial(Inflater::new);
 
     public static final boolean GROUPED_PACKET = PropertyUtils.getBoolean("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = PropertyUtils.getBoolean("minestom.cached-packet", true);
@@ -191,59 +194,78 @@ public final class PacketUtils {
     public static @Nullable BinaryBuffer readPackets(@NotNull BinaryBuffer readBuffer, boolean compressed,
                                                      BiConsumer<Integer, ByteBuffer> payloadConsumer) throws DataFormatException {
         BinaryBuffer remaining = null;
-        ByteBuffer pool = ObjectPool.PACKET_POOL.get();
-        while (readBuffer.readableBytes() > 0) {
-            final var beginMark = readBuffer.mark();
-            try {
-                // Ensure that the buffer contains the full packet (or wait for next socket read)
-                final int packetLength = readBuffer.readVarInt();
-                final int readerStart = readBuffer.readerOffset();
-                if (!readBuffer.canRead(packetLength)) {
-                    // Integrity fail
-                    throw new BufferUnderflowException();
-                }
-                // Read packet https://wiki.vg/Protocol#Packet_format
-                BinaryBuffer content = readBuffer;
-                int decompressedSize = packetLength;
-                if (compressed) {
-                    final int dataLength = readBuffer.readVarInt();
-                    final int payloadLength = packetLength - (readBuffer.readerOffset() - readerStart);
-                    if (payloadLength < 0) {
-                        throw new DataFormatException("Negative payload length " + payloadLength);
+        // Released on every path, including malformed compressed packets
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            final ByteBuffer pool = hold.get();
+            while (readBuffer.readableBytes() > 0) {
+                final var beginMark = readBuffer.mark();
+                try {
+                    // Ensure that the buffer contains the full packet (or wait for next socket read)
+                    final int packetLength = readBuffer.readVarInt();
+                    final int readerStart = readBuffer.readerOffset();
+                    if (!readBuffer.canRead(packetLength)) {
+                        // Integrity fail
+                        throw new BufferUnderflowException();
                     }
-                    if (dataLength == 0) {
-                        // Data is too small to be compressed, payload is following
-                        decompressedSize = payloadLength;
-                    } else {
-                        // Decompress to content buffer
-                        content = BinaryBuffer.wrap(pool);
-                        decompressedSize = dataLength;
-                        Inflater inflater = new Inflater(); // TODO: Pool?
-                        inflater.setInput(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength));
-                        inflater.inflate(content.asByteBuffer(0, dataLength));
-                        inflater.reset();
+                    // Read packet https://wiki.vg/Protocol#Packet_format
+                    BinaryBuffer content = readBuffer;
+                    int decompressedSize = packetLength;
+                    if (compressed) {
+                        final int dataLength = readBuffer.readVarInt();
+                        final int payloadLength = packetLength - (readBuffer.readerOffset() - readerStart);
+                        if (payloadLength < 0) {
+                            throw new DataFormatException("Negative payload length " + payloadLength);
+                        }
+                        if (dataLength == 0) {
+                            // Data is too small to be compressed, payload is following
+                            decompressedSize = payloadLength;
+                        } else {
+                            // Decompress to content buffer
+                            if (dataLength < 0 || dataLength > Server.MAX_PACKET_SIZE) {
+                                throw new DataFormatException("Invalid decompressed length " + dataLength +
+                                        " (max " + Server.MAX_PACKET_SIZE + ")");
+                            }
+                            content = BinaryBuffer.wrap(pool);
+                            decompressedSize = dataLength;
+                            inflate(readBuffer.asByteBuffer(readBuffer.readerOffset(), payloadLength),
+                                    content.asByteBuffer(0, dataLength));
+                        }
                     }
+                    // Slice packet
+                    ByteBuffer payload = content.asByteBuffer(content.readerOffset(), decompressedSize);
+                    final int packetId = Utils.readVarInt(payload);
+                    try {
+                        payloadConsumer.accept(packetId, payload);
+                    } catch (Exception e) {
+                        // Empty
+                    }
+                    // Position buffer to read the next packet
+                    readBuffer.readerOffset(readerStart + packetLength);
+                } catch (BufferUnderflowException e) {
+                    readBuffer.reset(beginMark);
+                    remaining = BinaryBuffer.copy(readBuffer);
+                    break;
                 }
-                // Slice packet
-                ByteBuffer payload = content.asByteBuffer(content.readerOffset(), decompressedSize);
-                final int packetId = Utils.readVarInt(payload);
-                try {
-                    payloadConsumer.accept(packetId, payload);
-                } catch (Exception e) {
-                    // Empty
-                }
-                // Position buffer to read the next packet
-                readBuffer.readerOffset(readerStart + packetLength);
-            } catch (BufferUnderflowException e) {
-                readBuffer.reset(beginMark);
-                remaining = BinaryBuffer.copy(readBuffer);
-                break;
             }
         }
-        ObjectPool.PACKET_POOL.add(pool);
         return remaining;
     }
 
+    private static void inflate(ByteBuffer input, ByteBuffer output) throws DataFormatException {
+        final int expected = output.remaining();
+        Inflater inflater = LOCAL_INFLATER.get();
+        try {
+            inflater.setInput(input);
+            final int inflated = inflater.inflate(output);
+            if (inflated != expected) {
+                // Output is bounded by the announced length, a shorter result means a truncated/corrupted payload
+                throw new DataFormatException("Decompressed length mismatch, expected " + expected + " got " + inflated);
+            }
+        } finally {
+            inflater.reset();
+        }
+    }
+
     public static void writeFramedPacket(@NotNull ConnectionState state,
                                          @NotNull ByteBuffer buffer,
                                          @NotNull ServerPacket packet,
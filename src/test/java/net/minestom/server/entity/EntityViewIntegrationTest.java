@@ -3,9 +3,14 @@ package net.minestom.server.entity;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BundlePacket;
+import net.minestom.server.network.packet.server.play.DestroyEntitiesPacket;
 import net.minestom.server.network.packet.server.play.SpawnEntityPacket;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
@@ -122,6 +127,73 @@ public class EntityViewIntegrationTest {
         }
     }
 
+    @Test
+    public void batchedSpawns(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 40, 0)).join();
+        List<Entity> entities = List.of(new Entity(EntityType.ZOMBIE), new Entity(EntityType.ZOMBIE), new Entity(EntityType.ZOMBIE));
+        for (Entity entity : entities) entity.setInstance(instance, new Pos(400, 40, 0)).join();
+        assertEquals(0, entities.get(0).getViewers().size());
+
+        Entity.resetViewerChanges();
+        var tracker = connection.trackIncoming();
+        player.teleport(new Pos(400, 40, 0)).join();
+        var packets = tracker.collect().stream()
+                .filter(packet -> packet instanceof BundlePacket || packet instanceof SpawnEntityPacket)
+                .toList();
+        assertEquals(5, packets.size());
+        assertInstanceOf(BundlePacket.class, packets.get(0));
+        assertInstanceOf(BundlePacket.class, packets.get(4));
+        for (Entity entity : entities) assertTrue(entity.isViewer(player));
+
+        var changes = Entity.resetViewerChanges();
+        assertTrue(changes.additions() >= 3);
+        assertTrue(changes.batches() >= 1);
+    }
+
+    @Test
+    public void batchedSpawnsSplit(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 40, 0)).join();
+        final int count = 600;
+        for (int i = 0; i < count; i++) {
+            new Entity(EntityType.ZOMBIE).setInstance(instance, new Pos(400 + (i % 20), 40, i / 20)).join();
+        }
+
+        var tracker = connection.trackIncoming();
+        player.teleport(new Pos(400, 40, 0)).join();
+        assertEquals(count, assertBundles(tracker.collect(), SpawnEntityPacket.class));
+
+        tracker = connection.trackIncoming();
+        player.teleport(new Pos(0, 40, 0)).join();
+        assertEquals(count, assertBundles(tracker.collect(), DestroyEntitiesPacket.class));
+    }
+
+    /**
+     * Checks that the bundles are closed and contain at most 64 {@code type} packets.
+     *
+     * @return the number of {@code type} packets
+     */
+    private static int assertBundles(List<ServerPacket> packets, Class<? extends ServerPacket> type) {
+        boolean open = false;
+        int total = 0, bundled = 0, bundles = 0;
+        for (ServerPacket packet : packets) {
+            if (packet instanceof BundlePacket) {
+                open = !open;
+                if (open) bundles++;
+                bundled = 0;
+            } else if (type.isInstance(packet)) {
+                total++;
+                if (open) assertTrue(++bundled <= 64, "Bundle too large");
+            }
+        }
+        assertFalse(open, "Unclosed bundle");
+        assertTrue(bundles > 1, "The changes should be split in multiple bundles");
+        return total;
+    }
+
     @Test
     public void livingVehicle(Env env) {
         var instance = env.createFlatInstance();
@@ -0,0 +1,97 @@
+package net.minestom.server.event;
+
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.event.trait.EntityEvent;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncEventExecutorTest {
+
+    record IndexedEvent(@NotNull Entity entity, int index) implements EntityEvent {
+        @Override
+        public @NotNull Entity getEntity() {
+            return entity;
+        }
+    }
+
+    @Test
+    public void entityOrdering() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        var executor = AsyncEventExecutor.create(pool, 8, 16, AsyncEventExecutor.OverflowPolicy.BLOCK);
+        List<Entity> entities = List.of(new Entity(EntityType.ZOMBIE), new Entity(EntityType.ZOMBIE), new Entity(EntityType.ZOMBIE));
+        Map<Entity, List<Integer>> received = new ConcurrentHashMap<>();
+        final Thread caller = Thread.currentThread();
+
+        var node = EventNode.all("main");
+        node.addAsyncListener(IndexedEvent.class, executor, event -> {
+            assertNotSame(caller, Thread.currentThread());
+            received.computeIfAbsent(event.entity(), e -> new CopyOnWriteArrayList<>()).add(event.index());
+        });
+        for (int i = 0; i < 3000; i++) {
+            node.call(new IndexedEvent(entities.get(i % 3), i));
+        }
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (executor.queuedEvents() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        pool.shutdown();
+
+        assertEquals(0, executor.queuedEvents());
+        assertEquals(3000, executor.completedEvents());
+        assertEquals(0, executor.droppedEvents());
+        for (Entity entity : entities) {
+            List<Integer> indexes = received.get(entity);
+            assertEquals(1000, indexes.size());
+            for (int i = 1; i < indexes.size(); i++) {
+                assertTrue(indexes.get(i - 1) < indexes.get(i), "Events of an entity must be handled in order");
+            }
+        }
+    }
+
+    @Test
+    public void dropNewest() {
+        List<Runnable> lanes = new ArrayList<>();
+        var executor = AsyncEventExecutor.create(lanes::add, 1, 2, AsyncEventExecutor.OverflowPolicy.DROP_NEWEST);
+        List<Integer> received = new ArrayList<>();
+        var node = EventNode.all("main");
+        node.addAsyncListener(IndexedEvent.class, executor, event -> received.add(event.index()));
+
+        Entity entity = new Entity(EntityType.ZOMBIE);
+        for (int i = 0; i < 5; i++) node.call(new IndexedEvent(entity, i));
+        assertEquals(2, executor.queuedEvents());
+        assertEquals(3, executor.droppedEvents());
+
+        assertEquals(1, lanes.size(), "A lane must be scheduled once");
+        lanes.get(0).run();
+        assertEquals(List.of(0, 1), received);
+        assertEquals(0, executor.queuedEvents());
+    }
+
+    @Test
+    public void dropOldest() {
+        List<Runnable> lanes = new ArrayList<>();
+        var executor = AsyncEventExecutor.create(lanes::add, 1, 2, AsyncEventExecutor.OverflowPolicy.DROP_OLDEST);
+        List<Integer> received = new ArrayList<>();
+        var node = EventNode.all("main");
+        node.addAsyncListener(IndexedEvent.class, executor, event -> received.add(event.index()));
+
+        Entity entity = new Entity(EntityType.ZOMBIE);
+        for (int i = 0; i < 5; i++) node.call(new IndexedEvent(entity, i));
+        assertEquals(2, executor.queuedEvents());
+        assertEquals(3, executor.droppedEvents());
+
+        lanes.get(0).run();
+        assertEquals(List.of(3, 4), received);
+    }
+}
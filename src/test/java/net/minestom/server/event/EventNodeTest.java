@@ -201,6 +201,30 @@ public class EventNodeTest {
         assertTrue(childResult.get(), "The child event should be called");
     }
 
+    @Test
+    public void testNestedFiltering() {
+        AtomicInteger result = new AtomicInteger(0);
+        var node = EventNode.all("main");
+        var filtered = EventNode.type("filtered", EventFilter.ITEM,
+                (event, item) -> item.material() == Material.DIAMOND).setPriority(1);
+        var nested = EventNode.type("nested", EventFilter.ITEM,
+                (event, item) -> item.amount() == 2)
+                .addListener(ItemTestEvent.class, event -> result.addAndGet(1));
+        filtered.addChild(nested);
+        filtered.addListener(ItemTestEvent.class, event -> result.addAndGet(10));
+        var sibling = EventNode.all("sibling").setPriority(2)
+                .addListener(ItemTestEvent.class, event -> result.addAndGet(100));
+        node.addChild(filtered);
+        node.addChild(sibling);
+
+        node.call(new ItemTestEvent(ItemStack.of(Material.GOLD_BLOCK, 2)));
+        assertEquals(100, result.getAndSet(0), "Filtered subtree should be skipped, not its sibling");
+        node.call(new ItemTestEvent(ItemStack.of(Material.DIAMOND)));
+        assertEquals(110, result.getAndSet(0), "Nested filter should skip its listener");
+        node.call(new ItemTestEvent(ItemStack.of(Material.DIAMOND, 2)));
+        assertEquals(111, result.getAndSet(0));
+    }
+
     @Test
     public void testBinding() {
         var node = EventNode.all("main");
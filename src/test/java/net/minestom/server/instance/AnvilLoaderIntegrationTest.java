@@ -6,6 +6,9 @@ import net.minestom.server.utils.NamespaceID;
 import net.minestom.server.world.biomes.Biome;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+import org.jglrxavpok.hephaistos.nbt.NBTException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -14,9 +17,13 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @EnvTest
 public class AnvilLoaderIntegrationTest {
@@ -182,6 +189,57 @@ public class AnvilLoaderIntegrationTest {
         env.destroyInstance(instance);
     }
 
+    @Test
+    public void saveChunksBatched(Env env) {
+        // chunks spanning 4 regions, written region by region
+        AnvilLoader loader = new AnvilLoader(worldFolder.resolve("batched"));
+        Instance instance = env.createFlatInstance();
+        List<Chunk> chunks = new ArrayList<>();
+        for (int x = -2; x < 2; x++) {
+            for (int z = -2; z < 2; z++) {
+                Chunk chunk = instance.loadChunk(x, z).join();
+                chunk.setBlock(x & 15, 41, z & 15, Block.DIAMOND_BLOCK);
+                chunks.add(chunk);
+            }
+        }
+        // Saving twice must replace the previous data
+        loader.saveChunks(chunks).join();
+        loader.saveChunks(chunks).join();
+
+        for (Chunk chunk : chunks) {
+            Chunk reloaded = loader.loadChunk(instance, chunk.getChunkX(), chunk.getChunkZ()).join();
+            assertNotNull(reloaded);
+            for (int section = chunk.getMinSection(); section < chunk.getMaxSection(); section++) {
+                final Section originalSection = chunk.getSection(section);
+                final Section reloadedSection = reloaded.getSection(section);
+                var original = NetworkBuffer.makeArray(networkBuffer -> networkBuffer.write(originalSection));
+                var copy = NetworkBuffer.makeArray(networkBuffer -> networkBuffer.write(reloadedSection));
+                Assertions.assertArrayEquals(original, copy);
+            }
+            loader.unloadChunk(reloaded);
+        }
+
+        env.destroyInstance(instance);
+    }
+
+    @Test
+    public void saveDuplicateChunkBatch() throws IOException {
+        final Path path = worldFolder.resolve("duplicates").resolve("r.0.0.mca");
+        final AnvilRegion.Entry first = AnvilRegion.encode(0, 0, NBT.Compound(Map.of("value", NBT.Int(1))));
+        final AnvilRegion.Entry second = AnvilRegion.encode(0, 0, NBT.Compound(Map.of("value", NBT.Int(2))));
+        try (AnvilRegion region = AnvilRegion.open(path, true)) {
+            assertNotNull(region);
+            region.write(List.of(first, second));
+            final NBTCompound nbt = region.read(0, 0);
+            assertNotNull(nbt);
+            assertEquals(2, nbt.getInt("value"));
+        } catch (NBTException e) {
+            throw new IOException(e);
+        }
+        // Only the last entry must have been allocated, after the 2 header sectors
+        assertEquals(2L * AnvilRegion.SECTOR_SIZE + second.data().remaining(), Files.size(path));
+    }
+
     @AfterAll
     public static void cleanupTest() throws IOException {
         Files.walkFileTree(worldFolder, new SimpleFileVisitor<>() {
@@ -6,13 +6,13 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Map.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.fail;
 
 @EnvTest
@@ -38,6 +38,45 @@ public class BlockLightMergeIntegrationTest {
         assertLightInstance(instance, expectedLights);
     }
 
+    @Test
+    public void setBlockDuringRelight(Env env) {
+        Instance instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                instance.loadChunk(x, z).join();
+            }
+        }
+        final List<Chunk> chunks = List.copyOf(instance.getChunks());
+
+        // Block changes must not wait for the relight, which may need the chunk being modified
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread relighter = new Thread(() -> {
+                while (running.get()) LightingChunk.relight(instance, chunks);
+            });
+            relighter.start();
+            try {
+                Random random = new Random(1234);
+                for (int i = 0; i < 2000; i++) {
+                    instance.setBlock(random.nextInt(-16, 16), random.nextInt(40, 80), random.nextInt(-16, 16),
+                            random.nextBoolean() ? Block.TORCH : Block.AIR);
+                }
+            } finally {
+                running.set(false);
+                relighter.join();
+            }
+        });
+
+        instance.setBlock(8, 150, 8, Block.TORCH);
+        Map<Vec, Integer> expectedLights = new HashMap<>();
+        for (int y = -15; y <= 15; ++y) {
+            expectedLights.put(new Vec(8, 150 + y, 8), Math.max(0, 14 - Math.abs(y)));
+        }
+        LightingChunk.relightSection(instance, 0, 9, 0);
+        assertLightInstance(instance, expectedLights);
+    }
+
     @Test
     public void testTorch(Env env) {
         Instance instance = env.createFlatInstance();
@@ -0,0 +1,48 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class ChunkPacketCacheIntegrationTest {
+
+    @Test
+    public void partialRebuild(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = (DynamicChunk) instance.loadChunk(0, 0).join();
+        final int sectionCount = chunk.getMaxSection() - chunk.getMinSection();
+
+        var before = DynamicChunk.packetMetrics();
+        assertSections(chunk);
+        var first = DynamicChunk.packetMetrics();
+        assertEquals(sectionCount, first.sectionMisses() - before.sectionMisses());
+
+        // Only the modified section is encoded again
+        instance.setBlock(5, 60, 5, Block.DIAMOND_BLOCK);
+        assertSections(chunk);
+        var second = DynamicChunk.packetMetrics();
+        assertEquals(1, second.sectionMisses() - first.sectionMisses());
+        assertEquals(sectionCount - 1, second.sectionHits() - first.sectionHits());
+        assertEquals(2, second.rebuilds() - before.rebuilds());
+
+        chunk.invalidateSections();
+        assertSections(chunk);
+        assertEquals(sectionCount, DynamicChunk.packetMetrics().sectionMisses() - second.sectionMisses());
+    }
+
+    private static void assertSections(DynamicChunk chunk) {
+        var packet = (ChunkDataPacket) chunk.chunkCache.packet(ConnectionState.PLAY);
+        final byte[] expected = NetworkBuffer.makeArray(buffer -> {
+            for (Section section : chunk.getSections()) buffer.write(section);
+        });
+        assertArrayEquals(expected, packet.chunkData().data());
+    }
+}
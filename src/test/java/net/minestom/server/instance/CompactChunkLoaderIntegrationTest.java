@@ -0,0 +1,56 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.tag.Tag;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class CompactChunkLoaderIntegrationTest {
+
+    @ParameterizedTest
+    @EnumSource(CompactChunkLoader.Compression.class)
+    public void saveAndLoad(CompactChunkLoader.Compression compression, Env env, @TempDir Path directory) {
+        final Path file = directory.resolve("world.mscl");
+        final Tag<String> tag = Tag.String("name");
+        final Block chest = Block.CHEST.withNbt(NBT.Compound(Map.of("CustomName", NBT.String("test"))));
+
+        var instance = env.createFlatInstance(new CompactChunkLoader(file, compression));
+        instance.loadChunk(0, 0).join();
+        instance.loadChunk(-1, 0).join();
+        instance.setBlock(1, 50, 1, Block.DIAMOND_BLOCK);
+        instance.setBlock(-5, 60, 3, chest);
+        instance.getChunk(0, 0).setTag(tag, "arena");
+        instance.setTag(tag, "instance");
+        instance.saveChunksToStorage().join();
+        instance.saveInstance().join();
+
+        var loaded = env.createFlatInstance(new CompactChunkLoader(file, compression));
+        assertEquals("instance", loaded.getTag(tag));
+        for (int x = -1; x <= 0; x++) {
+            final Chunk original = instance.getChunk(x, 0);
+            final Chunk reloaded = loaded.loadChunk(x, 0).join();
+            assertNotNull(reloaded);
+            for (int section = original.getMinSection(); section < original.getMaxSection(); section++) {
+                final Section originalSection = original.getSection(section);
+                final Section reloadedSection = reloaded.getSection(section);
+                assertArrayEquals(NetworkBuffer.makeArray(buffer -> buffer.write(originalSection)),
+                        NetworkBuffer.makeArray(buffer -> buffer.write(reloadedSection)));
+            }
+        }
+        assertEquals(Block.DIAMOND_BLOCK, loaded.getBlock(1, 50, 1));
+        assertEquals(chest, loaded.getBlock(-5, 60, 3));
+        assertEquals("arena", loaded.getChunk(0, 0).getTag(tag));
+        assertFalse(loaded.getChunk(0, 0).isDirty());
+    }
+}
@@ -5,8 +5,11 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -64,6 +67,32 @@ public class EntityTrackerTest {
         assertEquals(1, tracker.chunkEntities(new Vec(32, 0, 32), EntityTracker.Target.ENTITIES).size());
     }
 
+    @Test
+    public void moveChurn() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        var ent3 = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = EntityTracker.newTracker();
+        var chunkEntities = tracker.chunkEntities(Vec.ZERO, EntityTracker.Target.ENTITIES);
+        tracker.register(ent1, Vec.ZERO, EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, Vec.ZERO, EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent3, Vec.ZERO, EntityTracker.Target.ENTITIES, null);
+        var snapshot = List.copyOf(chunkEntities);
+
+        // Remove from the middle of the bucket
+        tracker.move(ent1, new Vec(16, 0, 0), EntityTracker.Target.ENTITIES, null);
+        assertEquals(Set.of(ent2, ent3), Set.copyOf(chunkEntities));
+        assertEquals(List.of(ent1, ent2, ent3), snapshot);
+        tracker.move(ent1, Vec.ZERO, EntityTracker.Target.ENTITIES, null);
+        tracker.move(ent3, new Vec(16, 0, 0), EntityTracker.Target.ENTITIES, null);
+        assertEquals(Set.of(ent1, ent2), Set.copyOf(chunkEntities));
+        assertEquals(Set.of(ent3), Set.copyOf(tracker.chunkEntities(new Vec(16, 0, 0), EntityTracker.Target.ENTITIES)));
+
+        tracker.unregister(ent2, EntityTracker.Target.ENTITIES, null);
+        tracker.unregister(ent1, EntityTracker.Target.ENTITIES, null);
+        assertTrue(chunkEntities.isEmpty());
+    }
+
     @Test
     public void tracking() {
         var ent1 = new Entity(EntityType.ZOMBIE);
@@ -123,8 +152,9 @@ public class EntityTrackerTest {
         });
     }
 
-    @Test
-    public void nearby() {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4})
+    public void nearby(int cellSize) {
         var ent1 = new Entity(EntityType.ZOMBIE);
         var ent2 = new Entity(EntityType.ZOMBIE);
         var ent3 = new Entity(EntityType.ZOMBIE);
@@ -140,7 +170,7 @@ public class EntityTrackerTest {
             }
         };
 
-        EntityTracker tracker = EntityTracker.newTracker();
+        EntityTracker tracker = EntityTracker.newTracker(cellSize);
         tracker.register(ent2, new Vec(5, 0, 0), EntityTracker.Target.ENTITIES, updater);
         tracker.register(ent3, new Vec(50, 0, 0), EntityTracker.Target.ENTITIES, updater);
 
@@ -176,8 +206,9 @@ public class EntityTrackerTest {
         assertEquals(0, entities.size());
     }
 
-    @Test
-    public void nearbySingleChunk() {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4})
+    public void nearbySingleChunk(int cellSize) {
         var ent1 = new Entity(EntityType.ZOMBIE);
         var ent2 = new Entity(EntityType.ZOMBIE);
         var ent3 = new Entity(EntityType.ZOMBIE);
@@ -193,7 +224,7 @@ public class EntityTrackerTest {
             }
         };
 
-        EntityTracker tracker = EntityTracker.newTracker();
+        EntityTracker tracker = EntityTracker.newTracker(cellSize);
         tracker.register(ent1, new Vec(5, 0, 5), EntityTracker.Target.ENTITIES, updater);
         tracker.register(ent2, new Vec(8, 0, 8), EntityTracker.Target.ENTITIES, updater);
         tracker.register(ent3, new Vec(17, 0, 17), EntityTracker.Target.ENTITIES, updater);
@@ -216,6 +247,38 @@ public class EntityTrackerTest {
         assertEquals(0, entities.size());
     }
 
+    @Test
+    public void nearbyCellMove() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = EntityTracker.newTracker(4);
+        tracker.register(ent1, new Vec(1, 0, 1), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, new Vec(2, 0, 1), EntityTracker.Target.ENTITIES, null);
+
+        Set<Entity> entities = new HashSet<>();
+        tracker.nearbyEntities(new Vec(1, 0, 1), 2, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent2), entities);
+
+        // Same cell
+        tracker.move(ent2, new Vec(3.5, 0, 1), EntityTracker.Target.ENTITIES, null);
+        entities.clear();
+        tracker.nearbyEntities(new Vec(1, 0, 1), 2, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1), entities);
+
+        // Different cell, vertically
+        tracker.move(ent1, new Vec(1, 6, 1), EntityTracker.Target.ENTITIES, null);
+        entities.clear();
+        tracker.nearbyEntities(new Vec(1, 0, 1), 2, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(), entities);
+        tracker.nearbyEntities(new Vec(1, 5, 1), 2, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1), entities);
+
+        tracker.unregister(ent1, EntityTracker.Target.ENTITIES, null);
+        entities.clear();
+        tracker.nearbyEntities(new Vec(1, 5, 1), 2, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(), entities);
+    }
+
     @Test
     public void collectionView() {
         var ent1 = new Entity(EntityType.ZOMBIE);
@@ -0,0 +1,46 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class HeightmapIntegrationTest {
+
+    @Test
+    public void incrementalUpdates(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = (DynamicChunk) instance.loadChunk(0, 0).join();
+        final int minY = instance.getDimensionType().getMinY();
+
+        // Stone up to y=39 included
+        assertHeight(chunk, 39 - minY + 1, 39 - minY + 1);
+
+        instance.setBlock(0, 60, 0, Block.STONE);
+        assertHeight(chunk, 60 - minY + 1, 60 - minY + 1);
+
+        // Flowers do not block motion
+        instance.setBlock(0, 70, 0, Block.POPPY);
+        assertHeight(chunk, 60 - minY + 1, 70 - minY + 1);
+
+        instance.setBlock(0, 70, 0, Block.AIR);
+        instance.setBlock(0, 60, 0, Block.AIR);
+        assertHeight(chunk, 39 - minY + 1, 39 - minY + 1);
+
+        instance.setBlock(0, 50, 0, Block.WATER);
+        assertHeight(chunk, 50 - minY + 1, 50 - minY + 1);
+
+        // Scanned again from the sections
+        chunk.invalidateHeightmaps();
+        assertHeight(chunk, 50 - minY + 1, 50 - minY + 1);
+        assertEquals(39 - minY + 1, chunk.worldSurface.heights()[1]);
+    }
+
+    private static void assertHeight(DynamicChunk chunk, int motionBlocking, int worldSurface) {
+        assertEquals(motionBlocking, chunk.motionBlocking.heights()[0]);
+        assertEquals(worldSurface, chunk.worldSurface.heights()[0]);
+    }
+}
@@ -4,10 +4,14 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.batch.ChunkBatch;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.network.packet.server.play.BlockActionPacket;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.NamespaceID;
 import org.jetbrains.annotations.NotNull;
@@ -16,10 +20,16 @@ import org.jglrxavpok.hephaistos.parser.SNBTParser;
 import org.junit.jupiter.api.Test;
 
 import java.io.StringReader;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 @EnvTest
 public class InstanceBlockPacketIntegrationTest {
@@ -34,9 +44,10 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(Block.AIR, instance.getBlock(blockPoint));
 
-        var tracker = connection.trackIncoming();
+        var tracker = connection.trackIncoming(BlockChangePacket.class);
         instance.setBlock(blockPoint, Block.STONE);
-        tracker.assertSingle(BlockChangePacket.class, packet -> {
+        env.tick(); // Block changes are sent at the end of the tick
+        tracker.assertSingle(packet -> {
             assertEquals(blockPoint, packet.blockPosition());
             assertEquals(Block.STONE.stateId(), packet.blockStateId());
         });
@@ -84,6 +95,7 @@ public class InstanceBlockPacketIntegrationTest {
         var blockChangeTracker = connection.trackIncoming(BlockChangePacket.class);
         var blockEntityTracker = connection.trackIncoming(BlockEntityDataPacket.class);
         instance.setBlock(blockPoint, block);
+        env.tick();
         blockChangeTracker.assertSingle(packet -> {
             assertEquals(blockPoint, packet.blockPosition());
             assertEquals(block.stateId(), packet.blockStateId());
@@ -96,4 +108,67 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(block, instance.getBlock(blockPoint));
     }
+
+    @Test
+    public void blockActionAfterChange(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var blockPoint = new Vec(5, 41, 0);
+        var tracker = connection.trackIncoming();
+        instance.setBlock(blockPoint, Block.CHEST);
+        instance.sendBlockAction(blockPoint, (byte) 1, (byte) 1);
+        var packets = tracker.collect().stream()
+                .filter(packet -> packet instanceof BlockChangePacket || packet instanceof BlockActionPacket)
+                .toList();
+        assertEquals(2, packets.size(), "The block change should be sent before the action");
+        assertInstanceOf(BlockChangePacket.class, packets.get(0));
+        assertInstanceOf(BlockActionPacket.class, packets.get(1));
+    }
+
+    @Test
+    public void coalesceSection(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var blockChangeTracker = connection.trackIncoming(BlockChangePacket.class);
+        var multiBlockChangeTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        instance.setBlock(1, 41, 1, Block.STONE);
+        instance.setBlock(2, 41, 1, Block.STONE);
+        // Only the last change of a position is sent
+        instance.setBlock(3, 41, 1, Block.STONE);
+        instance.setBlock(3, 41, 1, Block.DIRT);
+        env.tick();
+
+        blockChangeTracker.assertEmpty();
+        multiBlockChangeTracker.assertSingle(packet -> {
+            assertEquals(new MultiBlockChangePacket(0, 2, 0, new long[0]).chunkSectionPosition(), packet.chunkSectionPosition());
+            assertEquals(Set.of(
+                            (long) Block.STONE.stateId() << 12 | 1 << 8 | 1 << 4 | 9,
+                            (long) Block.STONE.stateId() << 12 | 2 << 8 | 1 << 4 | 9,
+                            (long) Block.DIRT.stateId() << 12 | 3 << 8 | 1 << 4 | 9),
+                    Arrays.stream(packet.blocks()).boxed().collect(Collectors.toSet()));
+        });
+    }
+
+    @Test
+    public void chunkBatch(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var multiBlockChangeTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var chunkTracker = connection.trackIncoming(ChunkDataPacket.class);
+        var batch = new ChunkBatch();
+        for (int x = 0; x < 4; x++) batch.setBlock(x, 41, 0, Block.STONE);
+        var latch = new CountDownLatch(1);
+        batch.unsafeApply(instance, instance.getChunk(0, 0), chunk -> latch.countDown());
+        assertDoesNotThrow(() -> latch.await());
+        env.tick();
+
+        chunkTracker.assertEmpty();
+        multiBlockChangeTracker.assertSingle(packet -> assertEquals(4, packet.blocks().length));
+    }
 }
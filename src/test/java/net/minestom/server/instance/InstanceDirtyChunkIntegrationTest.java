@@ -0,0 +1,129 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.tag.Tag;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceDirtyChunkIntegrationTest {
+
+    @Test
+    public void saveDirtyChunks(Env env) {
+        var loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        Chunk stored = instance.loadChunk(0, 0).join();
+        Chunk generated = instance.loadChunk(1, 0).join();
+        assertFalse(stored.isDirty(), "Chunks loaded from storage should not be dirty");
+        assertTrue(generated.isDirty(), "Generated chunks should be dirty");
+
+        instance.saveDirtyChunks().join();
+        assertEquals(List.of(generated), loader.saved);
+        assertFalse(generated.isDirty());
+
+        loader.saved.clear();
+        instance.setBlock(0, 50, 0, Block.STONE);
+        assertEquals(Chunk.DIRTY_BLOCKS, stored.getDirtyFlags());
+        stored.setTag(Tag.String("test"), "value");
+        assertEquals(Chunk.DIRTY_BLOCKS | Chunk.DIRTY_TAGS, stored.getDirtyFlags());
+        instance.saveDirtyChunks().join();
+        assertEquals(List.of(stored), loader.saved);
+
+        loader.saved.clear();
+        instance.saveDirtyChunks().join();
+        assertEquals(List.of(), loader.saved, "Unmodified chunks should not be saved");
+    }
+
+    @Test
+    public void failedSave(Env env) {
+        var loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        Chunk chunk = instance.loadChunk(1, 0).join();
+        assertTrue(chunk.isDirty());
+
+        loader.fail = true;
+        var future = instance.saveDirtyChunks();
+        assertThrows(CompletionException.class, future::join);
+        assertTrue(chunk.isDirty(), "Chunks should stay dirty when their save fails");
+        assertThrows(CompletionException.class, () -> instance.saveChunkToStorage(chunk).join());
+        assertTrue(chunk.isDirty());
+
+        loader.fail = false;
+        instance.saveDirtyChunks().join();
+        assertFalse(chunk.isDirty());
+        assertEquals(List.of(chunk), loader.saved);
+    }
+
+    @Test
+    public void tagHandlerMarksDirty(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(new RecordingLoader());
+        Chunk chunk = instance.loadChunk(0, 0).join();
+        assertFalse(chunk.isDirty());
+
+        chunk.tagHandler().setTag(Tag.String("test"), "value");
+        assertEquals(Chunk.DIRTY_TAGS, chunk.getDirtyFlags());
+        chunk.clearDirty();
+        chunk.tagHandler().updateTag(Tag.Integer("count").defaultValue(0), i -> i + 1);
+        assertEquals(Chunk.DIRTY_TAGS, chunk.getDirtyFlags());
+        chunk.clearDirty();
+        chunk.tagHandler().removeTag(Tag.String("test"));
+        assertEquals(Chunk.DIRTY_TAGS, chunk.getDirtyFlags());
+        assertNull(chunk.getTag(Tag.String("test")));
+    }
+
+    @Test
+    public void autosave(Env env) {
+        var loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        for (int x = 1; x <= 4; x++) {
+            instance.loadChunk(x, 0).join();
+        }
+        instance.enableAutosave(Duration.ofMillis(1), 1, Duration.ofMillis(50));
+
+        var previous = new AtomicInteger();
+        assertTrue(env.tickWhile(() -> {
+            final int size = loader.saved.size();
+            assertTrue(size - previous.getAndSet(size) <= 1, "Autosave should respect the batch size");
+            return size < 4;
+        }, Duration.ofSeconds(5)));
+        for (Chunk chunk : instance.getChunks()) {
+            assertFalse(chunk.isDirty());
+        }
+    }
+
+    /**
+     * Chunk (0, 0) is present in storage, other chunks are generated.
+     */
+    private static final class RecordingLoader implements IChunkLoader {
+        final List<Chunk> saved = new CopyOnWriteArrayList<>();
+        volatile boolean fail;
+
+        @Override
+        public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            if (chunkX != 0 || chunkZ != 0) return CompletableFuture.completedFuture(null);
+            Chunk chunk = ((InstanceContainer) instance).getChunkSupplier().createChunk(instance, chunkX, chunkZ);
+            chunk.setBlock(0, 0, 0, Block.BEDROCK);
+            return CompletableFuture.completedFuture(chunk);
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+            if (fail) return CompletableFuture.failedFuture(new IOException("Save failed"));
+            saved.add(chunk);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
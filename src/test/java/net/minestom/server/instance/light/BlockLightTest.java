@@ -8,8 +8,10 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -24,6 +26,20 @@ public class BlockLightTest {
         }
     }
 
+    @Test
+    public void incrementalUpdate() {
+        final Block[] blocks = {Block.AIR, Block.STONE, Block.GLOWSTONE, Block.TORCH, Block.GLASS, Block.OAK_SLAB};
+        var random = new Random(1234);
+        var palette = Palette.blocks();
+        byte[] light = LightCompute.compute(palette).light().clone();
+        for (int i = 0; i < 500; i++) {
+            final int x = random.nextInt(16), y = random.nextInt(16), z = random.nextInt(16);
+            palette.set(x, y, z, blocks[random.nextInt(blocks.length)].stateId());
+            LightCompute.update(palette, light, x, y, z);
+            assertArrayEquals(LightCompute.compute(palette).light(), light, "Mismatch after update " + i);
+        }
+    }
+
     @Test
     public void glowstone() {
         var palette = Palette.blocks();
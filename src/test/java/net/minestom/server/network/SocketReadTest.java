@@ -2,10 +2,12 @@ package net.minestom.server.network;
 
 import it.unimi.dsi.fastutil.Pair;
 import net.minestom.server.network.packet.client.common.ClientPluginMessagePacket;
+import net.minestom.server.network.socket.Server;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.Utils;
 import net.minestom.server.utils.binary.BinaryBuffer;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -123,4 +125,48 @@ public class SocketReadTest {
         assertEquals("channel", readPacket.channel());
         assertEquals(2000, readPacket.data().length);
     }
+
+    @Test
+    public void oversizedDecompressedLength() {
+        // Announce a decompressed length larger than the maximum packet size
+
+        var buffer = ObjectPool.PACKET_POOL.get();
+        final int dataLength = Server.MAX_PACKET_SIZE + 1;
+        Utils.writeVarInt(buffer, Utils.getVarIntSize(dataLength) + 1);
+        Utils.writeVarInt(buffer, dataLength);
+        buffer.put((byte) 0);
+
+        var wrapper = BinaryBuffer.wrap(buffer);
+        wrapper.reset(0, buffer.position());
+
+        List<Pair<Integer, ByteBuffer>> packets = new ArrayList<>();
+        final int pooled = ObjectPool.PACKET_POOL.count();
+        assertThrows(DataFormatException.class, () -> PacketUtils.readPackets(wrapper, true,
+                (integer, payload) -> packets.add(Pair.of(integer, payload))));
+        assertTrue(packets.isEmpty());
+        // The decompression buffer must be returned to the pool
+        assertEquals(Math.max(pooled, 1), ObjectPool.PACKET_POOL.count());
+    }
+
+    @Test
+    public void invalidCompressedPayload() {
+        // Announce a decompressed length which does not match the compressed payload
+
+        var packet = new ClientPluginMessagePacket("channel", new byte[2000]);
+
+        var buffer = ObjectPool.PACKET_POOL.get();
+        PacketUtils.writeFramedPacket(buffer, 0x0A, packet, 256);
+        buffer.put(3, (byte) (buffer.get(3) + 1)); // Data length follows the 3 bytes packet length header
+
+        var wrapper = BinaryBuffer.wrap(buffer);
+        wrapper.reset(0, buffer.position());
+
+        List<Pair<Integer, ByteBuffer>> packets = new ArrayList<>();
+        final int pooled = ObjectPool.PACKET_POOL.count();
+        assertThrows(DataFormatException.class, () -> PacketUtils.readPackets(wrapper, true,
+                (integer, payload) -> packets.add(Pair.of(integer, payload))));
+        assertTrue(packets.isEmpty());
+        // The decompression buffer must be returned to the pool
+        assertEquals(Math.max(pooled, 1), ObjectPool.PACKET_POOL.count());
+    }
 }
@@ -0,0 +1,443 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerOutboundBackpressureEvent;
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.PacketProcessor;
+import net.minestom.server.network.packet.server.FramedPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.login.SetCompressionPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.utils.PacketUtils;
+import net.minestom.server.utils.Utils;
+import net.minestom.server.utils.binary.BinaryBuffer;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketOption;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.SelectorProvider;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static net.minestom.server.network.NetworkBuffer.INT;
+import static net.minestom.server.network.NetworkBuffer.STRING;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@EnvTest
+public class PlayerSocketConnectionIntegrationTest {
+    private static final SocketAddress ADDRESS = new InetSocketAddress("localhost", 25565);
+
+    private Server server;
+    private Worker worker;
+
+    @BeforeEach
+    public void startWorker() throws IOException {
+        this.server = new Server(new PacketProcessor(new PacketListenerManager()));
+        this.worker = new Worker(server);
+        this.worker.start();
+    }
+
+    @AfterEach
+    public void stopWorker() throws InterruptedException {
+        this.server.stop();
+        this.worker.tick();
+        this.worker.join(5000);
+    }
+
+    @Test
+    public void partialGatheringWrite(Env env) {
+        var channel = new TestChannel(150_000);
+        var connection = new PlayerSocketConnection(worker, channel, ADDRESS);
+
+        // Larger than a pooled buffer, the data is split between waiting buffers and the local buffer
+        var expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 5; i++) {
+            final byte[] body = body(i, 100_000);
+            expected.writeBytes(body);
+            connection.sendPacket(new FramedPacket(new IntPacket(i), ByteBuffer.wrap(body)));
+        }
+        final int total = expected.size();
+        worker.tick();
+        await(() -> connection.getQueuedBytes() == total - 150_000);
+
+        // Resume in the middle of the second buffer
+        channel.allow(200_000);
+        worker.tick();
+        await(() -> connection.getQueuedBytes() == total - 350_000);
+        assertEquals(350_000, channel.written().length);
+
+        channel.allow(Long.MAX_VALUE);
+        worker.tick();
+        await(() -> connection.getQueuedBytes() == 0);
+        assertArrayEquals(expected.toByteArray(), channel.written());
+        assertEquals(0, onWorker(worker::dirtyConnectionCount));
+    }
+
+    @Test
+    public void dirtyOnce(Env env) {
+        var channel = new TestChannel(0);
+        var connection = new PlayerSocketConnection(worker, channel, ADDRESS);
+
+        // Two writes in the same loop
+        assertEquals(1, onWorker(() -> {
+            connection.sendPacket(new IntPacket(1));
+            connection.sendPacket(new IntPacket(2));
+            connection.drainPacketsSync();
+            return worker.dirtyConnectionCount();
+        }));
+        // The connection stays dirty while the socket does not accept the data, and is not added again
+        assertEquals(1, onWorker(() -> {
+            connection.sendPacket(new IntPacket(3));
+            connection.drainPacketsSync();
+            return worker.dirtyConnectionCount();
+        }));
+
+        channel.allow(Long.MAX_VALUE);
+        worker.tick();
+        await(() -> connection.getQueuedBytes() == 0);
+        assertEquals(0, onWorker(worker::dirtyConnectionCount));
+        // Each packet is written once
+        assertEquals(3 * (3 + 1 + 4), channel.written().length);
+    }
+
+    @Test
+    public void watermarks(Env env) {
+        var channel = new TestChannel(0);
+        var connection = new PlayerSocketConnection(worker, channel, ADDRESS);
+        new Player(UUID.randomUUID(), "Test", connection);
+        connection.setWatermarks(1_000, 10_000);
+        List<PlayerOutboundBackpressureEvent> events = new CopyOnWriteArrayList<>();
+        env.process().eventHandler().addListener(PlayerOutboundBackpressureEvent.class, events::add);
+
+        connection.write(ByteBuffer.allocateDirect(8_000));
+        worker.tick();
+        await(() -> connection.getQueuedBytes() == 8_000);
+        assertTrue(connection.isWritable());
+        assertTrue(events.isEmpty());
+
+        // Cross the high watermark
+        connection.write(ByteBuffer.allocateDirect(4_000));
+        worker.tick();
+        await(() -> !connection.isWritable());
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).isWritable());
+        assertEquals(12_000, events.get(0).getQueuedBytes());
+
+        // Still above the low watermark
+        channel.allow(10_000);
+        worker.tick();
+        await(() -> connection.getQueuedBytes() == 2_000);
+        assertFalse(connection.isWritable());
+        assertEquals(1, events.size());
+
+        channel.allow(1_500);
+        worker.tick();
+        await(connection::isWritable);
+        assertEquals(500, connection.getQueuedBytes());
+        assertEquals(2, events.size());
+        assertTrue(events.get(1).isWritable());
+        assertEquals(500, events.get(1).getQueuedBytes());
+    }
+
+    @Test
+    public void disconnectResetsQueuedBytes(Env env) {
+        var channel = new TestChannel(0);
+        var connection = new PlayerSocketConnection(worker, channel, ADDRESS);
+        connection.setWatermarks(1_000, 10_000);
+
+        connection.write(ByteBuffer.allocateDirect(20_000));
+        worker.tick();
+        await(() -> !connection.isWritable());
+        connection.disconnect();
+        await(() -> connection.getQueuedBytes() == 0);
+        assertTrue(connection.isWritable());
+    }
+
+    @Test
+    public void concurrentProducersOrder(Env env) throws InterruptedException {
+        final int producers = 4;
+        final int count = 5_000;
+        var channel = new TestChannel(Long.MAX_VALUE);
+        var connection = new PlayerSocketConnection(worker, channel, ADDRESS);
+
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    final IntPacket packet = new IntPacket(producer << 16 | i);
+                    // Alternate between single packets and packet lists, a list must not be overtaken by later packets
+                    if (i % 3 == 0) connection.sendPackets(List.of(packet));
+                    else connection.sendPacket(packet);
+                    if (i % 100 == 0) worker.tick();
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) thread.join();
+        final int length = producers * count * (3 + 1 + 4);
+        await(() -> {
+            worker.tick();
+            return channel.size() == length;
+        });
+
+        int[] next = new int[producers];
+        readPackets(channel.written(), false, (id, payload) -> {
+            final int value = payload.getInt();
+            final int producer = value >>> 16;
+            assertEquals(next[producer]++, value & 0xFFFF, "Packets of a producer must keep their order");
+        });
+        for (int p = 0; p < producers; p++) assertEquals(count, next[p]);
+    }
+
+    @Test
+    public void compressionSwitch(Env env) {
+        final int threshold = MinecraftServer.getCompressionThreshold();
+        assumeTrue(threshold > 0);
+        var channel = new TestChannel(Long.MAX_VALUE);
+        var connection = new PlayerSocketConnection(worker, channel, ADDRESS);
+        connection.setConnectionState(ConnectionState.LOGIN);
+
+        final String large = "a".repeat(threshold * 4);
+        connection.sendPacket(new IntPacket(1));
+        connection.startCompression();
+        // Queued with the compression packet, written after it
+        connection.sendPacket(new IntPacket(2));
+        connection.sendPackets(List.of(new StringPacket(large)));
+        worker.tick();
+        await(() -> connection.getQueuedBytes() == 0 && channel.size() > 0);
+
+        // The two first packets are not compressed
+        final ByteBuffer written = ByteBuffer.wrap(channel.written());
+        for (int i = 0; i < 2; i++) {
+            final int frameLength = Utils.readVarInt(written);
+            written.position(written.position() + frameLength);
+        }
+        final byte[] uncompressed = Arrays.copyOfRange(written.array(), 0, written.position());
+        final byte[] compressed = Arrays.copyOfRange(written.array(), written.position(), written.limit());
+
+        List<Object> packets = new ArrayList<>();
+        readPackets(uncompressed, false, (id, payload) -> packets.add(id == 1 ?
+                payload.getInt() : new SetCompressionPacket(new NetworkBuffer(payload))));
+        assertEquals(List.of(1, new SetCompressionPacket(threshold)), packets);
+
+        packets.clear();
+        readPackets(compressed, true, (id, payload) -> packets.add(payload.remaining() == 4 ?
+                payload.getInt() : new NetworkBuffer(payload).read(STRING)));
+        assertEquals(List.of(2, large), packets);
+        // The large packet is actually compressed
+        final ByteBuffer last = ByteBuffer.wrap(compressed);
+        last.position(Utils.readVarInt(last) + last.position());
+        Utils.readVarInt(last);
+        assertNotEquals(0, Utils.readVarInt(last));
+    }
+
+    static void readPackets(byte[] data, boolean compressed, BiConsumer<Integer, ByteBuffer> consumer) {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(data.length).put(data);
+        final BinaryBuffer binaryBuffer = BinaryBuffer.wrap(buffer);
+        binaryBuffer.reset(0, data.length);
+        assertNull(assertDoesNotThrow(() -> PacketUtils.readPackets(binaryBuffer, compressed, consumer)));
+    }
+
+    private <T> T onWorker(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        worker.queue().offer(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        worker.tick();
+        return assertDoesNotThrow(() -> future.get(5, TimeUnit.SECONDS));
+    }
+
+    static void await(BooleanSupplier condition) {
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (!condition.getAsBoolean()) Thread.onSpinWait();
+        });
+    }
+
+    static byte[] body(int seed, int length) {
+        final byte[] body = new byte[length];
+        for (int i = 0; i < length; i++) body[i] = (byte) (seed * 31 + i);
+        return body;
+    }
+
+    record IntPacket(int value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(INT, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 1;
+        }
+    }
+
+    record StringPacket(String value) implements ServerPacket {
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            writer.write(STRING, value);
+        }
+
+        @Override
+        public int getId(@NotNull ConnectionState state) {
+            return 2;
+        }
+    }
+
+    /**
+     * Channel accepting a limited number of bytes, recording everything written.
+     */
+    static final class TestChannel extends SocketChannel {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private long allowance;
+
+        TestChannel(long allowance) {
+            super(SelectorProvider.provider());
+            this.allowance = allowance;
+        }
+
+        synchronized void allow(long bytes) {
+            this.allowance = bytes == Long.MAX_VALUE ? bytes : allowance + bytes;
+        }
+
+        synchronized byte[] written() {
+            return written.toByteArray();
+        }
+
+        synchronized int size() {
+            return written.size();
+        }
+
+        @Override
+        public synchronized int write(ByteBuffer src) {
+            final int count = (int) Math.min(src.remaining(), allowance);
+            final byte[] bytes = new byte[count];
+            src.get(bytes);
+            this.written.writeBytes(bytes);
+            if (allowance != Long.MAX_VALUE) this.allowance -= count;
+            return count;
+        }
+
+        @Override
+        public synchronized long write(ByteBuffer[] srcs, int offset, int length) {
+            long count = 0;
+            for (int i = offset; i < offset + length; i++) {
+                count += write(srcs[i]);
+                if (srcs[i].hasRemaining()) break;
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            return 0;
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) {
+            return 0;
+        }
+
+        @Override
+        public SocketChannel bind(SocketAddress local) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> SocketChannel setOption(SocketOption<T> name, T value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T getOption(SocketOption<T> name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<SocketOption<?>> supportedOptions() {
+            return Set.of();
+        }
+
+        @Override
+        public SocketChannel shutdownInput() {
+            return this;
+        }
+
+        @Override
+        public SocketChannel shutdownOutput() {
+            return this;
+        }
+
+        @Override
+        public Socket socket() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isConnectionPending() {
+            return false;
+        }
+
+        @Override
+        public boolean connect(SocketAddress remote) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean finishConnect() {
+            return true;
+        }
+
+        @Override
+        public SocketAddress getRemoteAddress() {
+            return ADDRESS;
+        }
+
+        @Override
+        public SocketAddress getLocalAddress() {
+            return ADDRESS;
+        }
+
+        @Override
+        protected void implCloseSelectableChannel() {
+        }
+
+        @Override
+        protected void implConfigureBlocking(boolean block) {
+        }
+    }
+}
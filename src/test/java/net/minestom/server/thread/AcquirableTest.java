@@ -4,10 +4,14 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class AcquirableTest {
 
@@ -41,4 +45,83 @@ public class AcquirableTest {
 
         assertNotEquals(firstThread, secondThread);
     }
+
+    @Test
+    public void schedule() {
+        AtomicReference<TickThread> tickThread = new AtomicReference<>();
+        Entity entity = new Entity(EntityType.ZOMBIE) {
+            @Override
+            public void tick(long time) {
+                super.tick(time);
+                tickThread.set(getAcquirable().assignedThread());
+            }
+        };
+        Object first = new Object();
+        Object second = new Object();
+
+        ThreadDispatcher<Object> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 2);
+        dispatcher.createPartition(first);
+        dispatcher.createPartition(second);
+        dispatcher.updateElement(entity, first);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        Acquirable<Entity> acquirable = entity.getAcquirable();
+        for (int i = 0; i < 3; i++) {
+            final int index = i;
+            acquirable.schedule(e -> {
+                assertSame(entity, e);
+                order.add(index);
+                threads.add(Thread.currentThread());
+            });
+        }
+        assertTrue(order.isEmpty(), "Scheduled actions should wait for the next tick");
+
+        // Moved before being executed
+        dispatcher.updateElement(entity, second);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(List.of(0, 1, 2), order);
+        for (Thread thread : threads) {
+            assertSame(tickThread.get(), thread, "Actions must be executed by the thread ticking the element");
+        }
+    }
+
+    @Test
+    public void nestedOutOfOrder() throws Exception {
+        TickThread first = new TickThread(0);
+        TickThread second = new TickThread(1);
+        final Thread current = Thread.currentThread();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean outerAcquired = new AtomicBoolean();
+        Thread holder = new Thread(() -> {
+            ReentrantLock lock = AcquirableImpl.enter(Thread.currentThread(), first);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            // The outer section must not be interrupted by the nested acquisition
+            outerAcquired.set(second.lock().tryLock());
+            AcquirableImpl.leave(lock);
+        });
+
+        ReentrantLock outer = AcquirableImpl.enter(current, second);
+        holder.start();
+        locked.await();
+        assertThrows(IllegalStateException.class, () -> AcquirableImpl.enter(current, first));
+        assertTrue(outer.isHeldByCurrentThread());
+
+        // Succeeds once the holder leaves
+        release.countDown();
+        ReentrantLock inner = AcquirableImpl.enter(current, first);
+        holder.join();
+        assertFalse(outerAcquired.get());
+        assertTrue(outer.isHeldByCurrentThread());
+        AcquirableImpl.leave(inner);
+        AcquirableImpl.leave(outer);
+    }
 }
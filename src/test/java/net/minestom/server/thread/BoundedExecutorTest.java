@@ -0,0 +1,60 @@
+package net.minestom.server.thread;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedExecutorTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void concurrencyLimit(boolean virtual) throws InterruptedException {
+        final int concurrency = 3;
+        final int taskCount = 50;
+        BoundedExecutor executor = BoundedExecutor.create("test-executor", concurrency, virtual);
+        assertEquals(concurrency, executor.concurrency());
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(() -> {
+                final int current = running.incrementAndGet();
+                maxRunning.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                running.decrementAndGet();
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= concurrency, "Too many concurrent tasks: " + maxRunning.get());
+        assertEquals(0, executor.queuedTasks());
+        // Completion counter is incremented after the task returns
+        while (executor.completedTasks() != taskCount) Thread.onSpinWait();
+        assertEquals(0, executor.runningTasks());
+    }
+
+    @Test
+    public void singleRunnerPerTask() throws InterruptedException {
+        final String name = "test-single-runner";
+        BoundedExecutor executor = BoundedExecutor.create(name, 8, false);
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(latch::countDown);
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        // Idle platform threads are kept alive by the pool, count those created for the executor
+        final long threads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(name + "-"))
+                .count();
+        assertEquals(1, threads, "A single task should only start a single runner");
+    }
+}
@@ -167,4 +167,79 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedThreadUpdate() {
+        // Ensure that partitions initially dispatched to a single thread
+        // are spread once their tick time is known
+        final int threadCount = 2;
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(new ThreadProvider<>() {
+            @Override
+            public int findThread(@NotNull Tickable partition) {
+                return 0;
+            }
+
+            @Override
+            public @NotNull RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        }, threadCount);
+
+        for (int i = 0; i < 4; i++) {
+            dispatcher.createPartition((Tickable) (time) -> {
+                final long start = System.nanoTime();
+                while (System.nanoTime() - start < 1_000_000) Thread.onSpinWait();
+            });
+        }
+
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+        assertEquals(4, dispatcher.threads().get(0).entries().size());
+        assertEquals(0, dispatcher.threads().get(1).entries().size());
+
+        for (int i = 0; i < 20; i++) {
+            dispatcher.refreshThreads();
+            dispatcher.updateAndAwait(System.currentTimeMillis());
+        }
+        for (TickThread thread : dispatcher.threads()) {
+            assertFalse(thread.entries().isEmpty());
+            for (ThreadDispatcher.Partition partition : thread.entries()) {
+                assertEquals(thread, partition.thread());
+                assertTrue(partition.averageTickTime() > 0);
+            }
+        }
+
+        dispatcher.shutdown();
+    }
+
+    @Test
+    public void timings() {
+        ThreadDispatcher<Tickable> dispatcher = ThreadDispatcher.of(ThreadProvider.counter(), 2);
+
+        Tickable partition = (time) -> {
+            final long start = System.nanoTime();
+            while (System.nanoTime() - start < 100_000) Thread.onSpinWait();
+        };
+        dispatcher.createPartition(partition);
+        dispatcher.updateElement((time) -> {
+        }, partition);
+        dispatcher.updateAndAwait(System.currentTimeMillis());
+
+        var partitionTimings = dispatcher.partitionTimings();
+        assertEquals(1, partitionTimings.size());
+        var partitionTiming = partitionTimings.get(0);
+        assertSame(partition, partitionTiming.partition());
+        assertEquals(2, partitionTiming.elementCount());
+        assertEquals(0, partitionTiming.entityCount());
+        assertEquals(0, partitionTiming.entityTickTime());
+        assertTrue(partitionTiming.tickTime() >= 100_000);
+
+        var threadTimings = dispatcher.threadTimings();
+        assertEquals(2, threadTimings.size());
+        var busyThread = threadTimings.stream().filter(timings -> timings.thread() == partitionTiming.thread()).findFirst().orElseThrow();
+        assertEquals(1, busyThread.partitionCount());
+        assertEquals(2, busyThread.elementCount());
+        assertTrue(busyThread.tickTime() >= partitionTiming.tickTime());
+
+        dispatcher.shutdown();
+    }
 }
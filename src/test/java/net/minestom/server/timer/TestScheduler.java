@@ -3,8 +3,11 @@ package net.minestom.server.timer;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -139,4 +142,103 @@ public class TestScheduler {
         Thread.sleep(250);
         assertTrue(result.get(), "Async task didn't get executed");
     }
+
+    @Test
+    public void asyncExecutor() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        assertSame(Scheduler.defaultAsyncExecutor(), scheduler.getAsyncExecutor());
+        List<Runnable> submitted = new ArrayList<>();
+        scheduler.setAsyncExecutor(submitted::add);
+        AtomicBoolean result = new AtomicBoolean(false);
+        scheduler.scheduleNextProcess(() -> result.set(true), ExecutionType.ASYNC);
+        scheduler.process();
+        assertEquals(1, submitted.size(), "Async task should be submitted to the custom executor");
+        assertEquals(new Scheduler.AsyncMetrics(1, 0, 0, 0), scheduler.asyncMetrics());
+
+        submitted.get(0).run();
+        assertTrue(result.get());
+        var metrics = scheduler.asyncMetrics();
+        assertEquals(0, metrics.queuedTasks());
+        assertEquals(0, metrics.runningTasks());
+        assertEquals(1, metrics.completedTasks());
+    }
+
+    @Test
+    public void timingWheelTickTask() {
+        Scheduler scheduler = Scheduler.newScheduler(Scheduler.Backend.TIMING_WHEEL);
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger delayed = new AtomicInteger();
+        AtomicInteger repeated = new AtomicInteger();
+        scheduler.scheduleNextTick(next::incrementAndGet);
+        // Longer than a wheel rotation
+        scheduler.buildTask(delayed::incrementAndGet).delay(TaskSchedule.tick(600)).schedule();
+        scheduler.buildTask(repeated::incrementAndGet).repeat(TaskSchedule.tick(3)).schedule();
+
+        scheduler.process();
+        assertEquals(0, next.get(), "Tick task should not be executed after process");
+        for (int i = 1; i <= 600; i++) {
+            scheduler.processTick();
+            assertEquals(1, next.get());
+            assertEquals(i == 600 ? 1 : 0, delayed.get(), "Delayed task executed at tick " + i);
+        }
+        assertEquals(201, repeated.get());
+    }
+
+    @Test
+    public void timingWheelReusedSlots() {
+        Scheduler scheduler = Scheduler.newScheduler(Scheduler.Backend.TIMING_WHEEL);
+        // Idle ticks, the wheel has no bucket allocated
+        for (int i = 0; i < 1000; i++) scheduler.processTick();
+
+        final int[] delays = {1, 2, 2, 5, 255, 256, 257, 511, 512, 513, 1000};
+        final int[] executedAt = new int[delays.length];
+        AtomicInteger tick = new AtomicInteger();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < delays.length; i++) {
+                final int index = i;
+                // Several tasks per slot so that buckets grow and are released
+                for (int j = 0; j < 6; j++) {
+                    scheduler.buildTask(() -> executedAt[index] = tick.get())
+                            .delay(TaskSchedule.tick(delays[index])).schedule();
+                }
+            }
+            final int start = tick.get();
+            for (int i = 0; i < 1000; i++) {
+                tick.incrementAndGet();
+                scheduler.processTick();
+            }
+            for (int i = 0; i < delays.length; i++) {
+                assertEquals(start + delays[i], executedAt[i], "Task with a delay of " + delays[i] + " ticks");
+            }
+        }
+    }
+
+    @Test
+    public void timingWheelDurationTask() throws InterruptedException {
+        Scheduler scheduler = Scheduler.newScheduler(Scheduler.Backend.TIMING_WHEEL);
+        AtomicBoolean result = new AtomicBoolean(false);
+        scheduler.buildTask(() -> result.set(true))
+                .delay(TaskSchedule.millis(500))
+                .schedule();
+        Thread.sleep(100);
+        scheduler.process();
+        assertFalse(result.get(), "400ms remaining");
+        Thread.sleep(600);
+        scheduler.process();
+        assertTrue(result.get(), "Task must be executed after 500ms");
+    }
+
+    @Test
+    public void timingWheelCancelTask() {
+        Scheduler scheduler = Scheduler.newScheduler(Scheduler.Backend.TIMING_WHEEL);
+        AtomicBoolean result = new AtomicBoolean(false);
+        var task = scheduler.buildTask(() -> result.set(true))
+                .delay(TaskSchedule.tick(2))
+                .schedule();
+        scheduler.processTick();
+        task.cancel();
+        scheduler.processTick();
+        scheduler.processTick();
+        assertFalse(result.get(), "Task should be cancelled");
+    }
 }